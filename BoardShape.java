@@ -0,0 +1,110 @@
+/*
+Authors (group members): Alex Thomas, T'Avion Rodgers, Anthony Ciero, Jaylin Ollivierre
+Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.edu, aciero2022@my.fit.edu jollivierre2022@my.fit.edu
+Group name: C.A.M.E.R.O.N.
+Course: cse2010
+Section: 12
+Description: immutable adjacency of a rows x columns grid. Which cells touch never depends on the letters, so the table
+             is computed once per board shape and shared by every search. Cells are numbered row * columns + column and
+             the neighbors of a cell are the bits of a long mask, which the search walks without allocating
+*/
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public final class BoardShape {
+   public static final int MAX_CELLS = 64;   // one bit of a long mask per cell
+   // shapes computed so far, at r * (MAX_CELLS + 1) + c, so finding one neither boxes a key nor allocates
+   private static final AtomicReferenceArray<BoardShape> SHAPES =
+         new AtomicReferenceArray<BoardShape>((MAX_CELLS + 1) * (MAX_CELLS + 1));
+
+   private final int rows;
+   private final int cols;
+   private final long[] neighbors;   // bit n of neighbors[cell] is set if cell n touches cell, diagonals included
+
+   /**
+    * constructor that computes the adjacency of a grid
+    * @param r number of rows
+    * @param c number of columns
+    */
+   private BoardShape(final int r, final int c) {
+      rows = r;
+      cols = c;
+      neighbors = new long[r * c];
+      for (int row = 0; row < r; row++) {
+         for (int col = 0; col < c; col++) {
+            long mask = 0L;
+            for (int dr = -1; dr <= 1; dr++) {
+               for (int dc = -1; dc <= 1; dc++) {
+                  final int nr = row + dr;
+                  final int nc = col + dc;
+                  if ((dr != 0 || dc != 0) && nr >= 0 && nr < r && nc >= 0 && nc < c) {
+                     mask |= 1L << (nr * c + nc);
+                  }
+               }
+            }
+            neighbors[row * c + col] = mask;
+         }
+      }
+   }
+
+   /**
+    * shared adjacency of a grid, computed the first time the shape is asked for
+    * @param r number of rows
+    * @param c number of columns
+    * @return BoardShape of r rows and c columns
+    */
+   public static BoardShape of(final int r, final int c) {
+      if (r < 1 || c < 1 || r * c > MAX_CELLS) {
+         throw new IllegalArgumentException("boards of 1 to " + MAX_CELLS + " cells are supported, got " + r + "x" + c);
+      }
+      final int key = r * (MAX_CELLS + 1) + c;
+      final BoardShape known = SHAPES.get(key);
+      if (known != null) {
+         return known;
+      }
+      final BoardShape shape = new BoardShape(r, c);
+      return SHAPES.compareAndSet(key, null, shape) ? shape : SHAPES.get(key);
+   }
+
+   /**
+    * shared adjacency of a board's grid
+    * @param board 2d array representing the boggle board
+    * @return BoardShape of the board's rows and columns
+    */
+   public static BoardShape of(final char[][] board) {
+      return of(board.length, board[0].length);
+   }
+
+   /**
+    * accessor method for the number of rows
+    * @return int rows
+    */
+   public int rows() {
+      return rows;
+   }
+
+   /**
+    * accessor method for the number of columns
+    * @return int columns
+    */
+   public int cols() {
+      return cols;
+   }
+
+   /**
+    * accessor method for the number of cells
+    * @return int rows * columns
+    */
+   public int cells() {
+      return neighbors.length;
+   }
+
+   /**
+    * cells that touch a cell, diagonals included
+    * @param cell cell number, row * columns + column
+    * @return long mask with bit n set for each neighbor n
+    */
+   public long neighbors(final int cell) {
+      return neighbors[cell];
+   }
+}
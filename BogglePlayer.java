@@ -5,190 +5,389 @@ Group name: C.A.M.E.R.O.N.
 Course: cse2010
 Section: 12
 Description of the overall algorithm and key data structures:
-   - Standard trie for dictionary building
-   - Adjacency map for graph representation of board: Getting adjacent children
-   - Priority Queues for a: generating a 'heat map' of letters on the board with most adjacent children (reverse order because longest to shortest words)
-                         b: returning all words found, with the shortest word being at the front
-   - Search algorithm: Recursively checks if each letter in a word appears in the trie, and if at last letter, marks the end of the word
+   - Standard trie for dictionary building, optionally minimized into a directed acyclic word graph (DAWG), or a
+     precompiled snapshot of one that is memory mapped or copied off the heap (PackedTrie)
+   - Adjacency of the board grid as one neighbor bit mask per cell, computed once per board shape and shared (BoardShape)
+   - Bounded min heap keyed on points (TopWords) for keeping the 20 highest scoring words, returned lowest score first
+   - Batch mode that solves many boards on any executor, each worker reusing one set of search stacks
+   - Optional fork-join mode that searches each start cell in its own task and merges the tasks' top 20s
+   - Lazy enumeration of every word on a board, as an Iterator or a Stream, for callers that want more than the top 20
+   - Sessions that keep one board solved while its tiles are changed, re-searching only paths through the changed cell
+   - Optional least recently used cache of solved boards, shared by the 8 rotations and reflections of a board (SolveCache)
+   - Search algorithm: Recursively walks the board while carrying a trie cursor, so each letter added to a path costs one child hop;
+     visited cells are a bit mask and the path is a preallocated stack, so only words that are kept allocate (WordSearch)
 */
 
 import java.io.IOException;
-import java.util.PriorityQueue;
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class BogglePlayer {
-   // class to hold a list of children, and the row and column of the parent letter
-   private class Entry implements Comparable<Entry> {
-      private ArrayList<String> key;
-      private int row;
-      private int col;
-
+   // receives the words of each board solved by the batch getWords
+   public interface ResultListener {
       /**
-       * constructor for an Entry object that sets the key, row, and col fields
-       * @param k ArrayList to set k field to
-       * @param r int to set row field to
-       * @param c int to set col field to
+       * called once per board, from whichever worker solved it, so calls for different boards may overlap
+       * @param index position of the board in the batch, counting from 0
+       * @param board the board that was solved
+       * @param words the words getWords(board) would return
        */
-      public Entry (final ArrayList<String> k, final int r, final int c) {
-         key = k;
-         row = r;
-         col = c;
-      }
+      void solved(long index, char[][] board, Word[] words);
+   }
 
-      /**
-       * accessor method for key field
-       * @return ArrayList of Strings key
-       */
-      public ArrayList<String> key() {
-         return key;
-      }
+   // search stacks and collector reused by one worker at a time
+   private static class Scratch {
+      private final WordSearch search;
+      private final TopWords top;
 
-      /**
-       * accessor method for row field
-       * @return int row
-       */
-      public int row() {
-         return row;
+      // constructor that allocates scratch for boards of up to BoardShape.MAX_CELLS cells
+      public Scratch(final Lexicon d) {
+         search = new WordSearch(d);
+         top = new TopWords(20, 2 * BoardShape.MAX_CELLS);
       }
+   }
 
-      /**
-       * accessor method for col field
-       * @return int col
-       */
-      public int col() {
-         return col;
+   private static final int BATCH_CHUNK = 32;        // boards solved by one executor task
+   private static final int BATCH_IN_FLIGHT = 256;   // most chunks queued or running at once, bounds memory for streams
+
+   final Lexicon dictionary;
+   private final ConcurrentLinkedQueue<Scratch> idle = new ConcurrentLinkedQueue<Scratch>();   // scratch not in use
+   private volatile SolveCache cache = null;   // answers repeated boards without searching, null when off
+   private volatile Lexicon prefixes = null;   // reversed word prefixes for sessions, built by the first one
+
+   /**
+    * constructor for a BogglePlayer object that takes a file name of a list of words to use to build a dictionary, or
+    * of a snapshot compiled by PackedTrie, which is memory mapped instead of rebuilt
+    * @param wordFile file name of list of words or of a dictionary snapshot
+    * @throws IOException
+    */
+   public BogglePlayer (final String wordFile) throws IOException {
+      this(wordFile, false);
+   }
+
+   /**
+    * constructor for a BogglePlayer object that takes a file name of a list of words and chooses the dictionary layout
+    * @param wordFile file name of list of words, or of a dictionary snapshot which is always mapped as is
+    * @param compact true to minimize the dictionary into a directed acyclic word graph, which finds the same words in a
+    *                fraction of the heap
+    * @throws IOException
+    */
+   public BogglePlayer (final String wordFile, final boolean compact) throws IOException {
+      this(wordFile, compact, null);
+   }
+
+   /**
+    * constructor for a BogglePlayer object that only keeps the words a set of dice can spell
+    * @param wordFile file name of list of words, or of a dictionary snapshot which is always mapped as is
+    * @param compact true to minimize the dictionary into a directed acyclic word graph
+    * @param dice faces of each die boards are rolled from, such as DiceFilter.CLASSIC_DICE, or null to keep every word
+    * @throws IOException
+    */
+   public BogglePlayer (final String wordFile, final boolean compact, final String[] dice) throws IOException {
+      this(wordFile, compact, dice, Trie.DEFAULT_MAX_LENGTH);
+   }
+
+   /**
+    * constructor for a BogglePlayer object that keeps words up to a length chosen for the boards it will play
+    * @param wordFile file name of list of words, or of a dictionary snapshot which is always mapped as is
+    * @param compact true to minimize the dictionary into a directed acyclic word graph
+    * @param dice faces of each die boards are rolled from, such as DiceFilter.CLASSIC_DICE, or null to keep every word
+    * @param longest longest word to keep, such as Trie.maxLengthFor(5, 5) for 5x5 boards, up to Trie.LONGEST_WORD
+    * @throws IOException
+    */
+   public BogglePlayer (final String wordFile, final boolean compact, final String[] dice, final int longest)
+         throws IOException {
+      if (PackedTrie.isSnapshot(wordFile)) {
+         dictionary = PackedTrie.map(wordFile);
+      } else {
+         dictionary = new Trie(wordFile, compact, dice == null ? null : new DiceFilter(dice), longest);
       }
+      registerStats();
+   }
 
-      /**
-       * compares Entry objects based on length of key, used for building a priority queue
-       * @param e the object to be compared.
-       * @return difference in key list lengths
-       */
-      public int compareTo(final Entry e) {
-         return key.size() - e.key().size();
+   /**
+    * constructor for a BogglePlayer object that plays with an already built dictionary of any layout
+    * @param d dictionary to use, it is only read so several players may share it
+    */
+   public BogglePlayer (final Lexicon d) {
+      dictionary = d;
+      registerStats();
+   }
+
+   /**
+    * registers SearchStats with JMX when -Dboggle.stats=true is given, so that starting the platform MBean server is
+    * part of building the player rather than of the first getWords
+    */
+   private static void registerStats() {
+      if (WordSearch.counting()) {
+         SearchStats.register();
       }
    }
 
-   final Trie dictionary;
+   /**
+    * setter method for the cache every getWords checks before searching a board
+    * @param c cache to use, such as new SolveCache(1024), or null to always search. Hits keep the score of a search,
+    *          but ties between words of equal length are broken as they were for the symmetry that was stored
+    */
+   public void setCache(final SolveCache c) {
+      cache = c;
+   }
 
    /**
-    * constructor for a BogglePlayer object that takes a file name of a list of words to use to build a dictionary
-    * @param wordFile file name of list of words
-    * @throws IOException
+    * accessor method for the cache, to read its hit and miss counts
+    * @return SolveCache in use, or null if there is none
     */
-   public BogglePlayer (final String wordFile) throws IOException {
-      dictionary = new Trie(wordFile);
+   public SolveCache getCache() {
+      return cache;
    }
 
    /**
     * method that returns an array of the longest words in board
-    * @param board 2d array representing the boggle board
+    * @param board 2d array representing the boggle board, any rectangle of up to 64 cells such as 4x4, 5x5 or 6x6
     * */
    public Word[] getWords(final char[][] board) {
-      final boardGraph graph = new boardGraph(board); // creates a graph to represent the board
-      PriorityQueue<Entry> heatMap = generateHeatMap(board, graph);  // creates a heatmap of most desirable starting positions
-      // converts priority queue to array of Entries
-      Entry[] entries = new Entry[16];
-      entries = heatMap.toArray(entries);
-      PriorityQueue<Word> recurr = new PriorityQueue<Word>();  // prepares a priority queue for Word objects
-      // loops through all entries
-      for (Entry e : entries) {
-         final int[][] visited = new int[4][4]; // prepares a 2d array to store it a letter has been visited
-         // call that finds all words from starting point e.row() and e.col() and stores the longest ones in recurr
-         wordRecurr(recurr, graph, board, visited, e.row(), e.col(), new Word(""));
-      }
-
-      // stores recurr in an array and returns it
-      final Word[] results = new Word[recurr.size()];
-      for (int i = 0; i < results.length; i++) {
-         results[i] = recurr.poll();
+      final SolveCache c = cache;
+      final Word[] cached = c == null ? null : c.get(board);
+      if (cached != null) {
+         return cached;
+      }
+      final int cols = board[0].length;
+      final TopWords top = new TopWords(20, 2 * board.length * cols);  // collector for the 20 highest scoring words, a Q cell spells QU
+      // finds all words from every starting cell and keeps the highest scoring ones in top
+      new WordSearch(dictionary).search(board, top);
+      final Word[] words = top.toWords(cols);
+      if (c != null) {
+         c.put(board, words);
+      }
+      return words;
+   }
+
+   /**
+    * method that returns an array of the longest words in board, searching from different start cells in parallel
+    * @param board 2d array representing the boggle board, any rectangle of up to 64 cells such as 4x4, 5x5 or 6x6
+    * @param pool pool to run the search on, such as ForkJoinPool.commonPool()
+    * @return the same score as getWords(board), ties between words of equal length may be broken differently
+    */
+   public Word[] getWords(final char[][] board, final ForkJoinPool pool) {
+      final SolveCache c = cache;
+      final Word[] cached = c == null ? null : c.get(board);
+      if (cached != null) {
+         return cached;
+      }
+      if (WordSearch.counting()) {
+         SearchStats.STATS.boardStarted();
+      }
+      final Word[] words = pool.invoke(new StartCells(board, 0, board.length * board[0].length)).toWords(board[0].length);
+      if (c != null) {
+         c.put(board, words);
+      }
+      return words;
+   }
+
+   /**
+    * method that returns every word in board, each one once, found only as they are asked for. The search pauses
+    * between calls to next, so stopping early skips the rest of the board
+    * @param board 2d array representing the boggle board, any rectangle of up to 64 cells such as 4x4, 5x5 or 6x6
+    * @return Iterator over the words in the order the search finds them, with the first path found for each
+    */
+   public Iterator<Word> allWords(final char[][] board) {
+      return new WordIterator(dictionary, board);
+   }
+
+   /**
+    * method that returns every word in board as a sequential Stream, so that limit, filter or findFirst only search
+    * as far as the words they consume
+    * @param board 2d array representing the boggle board, any rectangle of up to 64 cells such as 4x4, 5x5 or 6x6
+    * @return Stream of the words of allWords(board)
+    */
+   public Stream<Word> streamWords(final char[][] board) {
+      return StreamSupport.stream(Spliterators.spliteratorUnknownSize(allWords(board),
+            Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+   }
+
+   /**
+    * method that solves a board and keeps it solved while its tiles change, for editors and generators that try one
+    * tile after another. Unless prepareSessions was called, the first session of a player also builds the trie of
+    * reversed prefixes that sessions search with, which is kept for every later session
+    * @param board 2d array representing the boggle board, any rectangle of up to 64 cells such as 4x4, 5x5 or 6x6
+    * @return SolveSession over a copy of board, whose setTile re-searches only the paths through the changed tile
+    */
+   public SolveSession session(final char[][] board) {
+      prepareSessions();
+      return new SolveSession(dictionary, prefixes, board);
+   }
+
+   /**
+    * method that builds the trie of reversed prefixes sessions search with, if it is not built yet, so that the first
+    * session is not slowed by it. Building it takes about a second and keeps about 8 MB with the default 9-letter
+    * cap, and about 4 seconds and 25 MB with the 16-letter cap, using several times that much heap while it runs
+    */
+   public void prepareSessions() {
+      if (prefixes == null) {
+         synchronized (this) {
+            if (prefixes == null) {
+               // built once per player and shared by its sessions, as the dictionary is
+               prefixes = Trie.reversedPrefixes(dictionary);
+            }
+         }
       }
+   }
+
+   /**
+    * solves many boards over the shared dictionary, returning the results in the order of the boards
+    * @param boards boards to solve
+    * @param executor executor to run on, such as Executors.newFixedThreadPool(n) or ForkJoinPool.commonPool()
+    * @return words of each board, results[i] holds what getWords(boards.get(i)) would return
+    * @throws InterruptedException if interrupted while waiting for the executor
+    */
+   public Word[][] getWords(final List<char[][]> boards, final Executor executor) throws InterruptedException {
+      final Word[][] results = new Word[boards.size()][];
+      getWords(boards, executor, (index, board, words) -> results[(int) index] = words);
       return results;
    }
 
    /**
-    * method that recursively searches for valid words in the board, storing them in priority queue wrd that keeps the shortest word at front
-    * @param wrd priority queue holding found words, storing shortest word at front
-    * @param g adjacency list for board b
-    * @param b 2d array representing boggle board
-    * @param visited 2d array of ints, 0 for a posistion that has not been visited, 1 if it has
-    * @param r row of letter to check
-    * @param c column of letter to check
-    * @param prev previous word object to build off of
-    * */
-   private int wordRecurr(PriorityQueue<Word> wrd, boardGraph g, char[][] b, int[][] visited, int r, int c, Word prev) {
-      // base case of letter already being visited
-      if (visited[r][c] == 1) {
-         return 0;
-      }
-      visited[r][c] = 1;   // sets letter to visited
-      final Word w = new Word(prev.getWord() + b[r][c]); // creates new Word object using letter from r, c on the board
-      // sets path of word
-      w.setPath(getWordPath(prev));
-      w.addLetterRowAndCol(r, c);
-      // searches for word in dictionary
-      final int[] searchData = dictionary.search(w.getWord());
-      assert searchData.length == 2;
-      // first part of condition checks if wrd is already at 20 words, and if it is, checks if the current word is longer than the shortest word in wrd
-      // second part of condition checks if the word exists in dictionary, and if wrd does not already contain it
-      // if these are met, adds w to wrd
-      if (!(wrd.size() == 20 && wrd.peek().getWord().length() == prev.getWord().length() + 1) && searchData[0] == 1 && !wrd.contains(w)) {
-         wrd.add(w);
-         // removes shortest word in wrd to make it length 20 again
-         if (wrd.size() > 20) {
-            wrd.poll();
+    * solves many boards over the shared dictionary, handing each result to a listener as soon as it is found. Boards
+    * are read lazily, in chunks of BATCH_CHUNK, and reading stops while BATCH_IN_FLIGHT chunks are waiting, so a
+    * stream of millions of boards never sits in memory. Each worker reuses one set of search stacks, and nothing but
+    * the returned Words is allocated per board
+    * @param boards boards to solve, a Stream can be passed as stream::iterator
+    * @param executor executor to run on, such as Executors.newFixedThreadPool(n) or ForkJoinPool.commonPool()
+    * @param listener receives the words of every board
+    * @throws InterruptedException if interrupted while waiting for the executor, thrown with the interrupt flag set
+    *         once every chunk already handed over has finished
+    */
+   public void getWords(final Iterable<char[][]> boards, final Executor executor, final ResultListener listener)
+         throws InterruptedException {
+      final Semaphore inFlight = new Semaphore(BATCH_IN_FLIGHT);
+      final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+      final Iterator<char[][]> it = boards.iterator();
+      RuntimeException rejected = null;   // thrown by the executor when it refused a chunk
+      try {
+         long index = 0;
+         while (it.hasNext() && failure.get() == null) {
+            final char[][][] chunk = new char[BATCH_CHUNK][][];
+            int count = 0;
+            while (count < BATCH_CHUNK && it.hasNext()) {
+               chunk[count++] = it.next();
+            }
+            final long first = index;
+            final int size = count;
+            index += count;
+            inFlight.acquire();
+            try {
+               executor.execute(() -> {
+                  try {
+                     solveChunk(chunk, size, first, listener);
+                  } catch (final Throwable t) {
+                     failure.compareAndSet(null, t);
+                  } finally {
+                     inFlight.release();
+                  }
+               });
+            } catch (final RuntimeException e) {
+               // the executor refused the chunk, such as a pool that was shut down; chunks already handed over still
+               // call the listener, so they are waited for before the caller sees the exception
+               inFlight.release();
+               rejected = e;
+               break;
+            }
          }
+         inFlight.acquire(BATCH_IN_FLIGHT);   // waits for every chunk to finish
+      } catch (final InterruptedException e) {
+         // chunks already handed over still call the listener, so they are waited for before the caller sees the
+         // interrupt, as when the executor refuses a chunk
+         inFlight.acquireUninterruptibly(BATCH_IN_FLIGHT);
+         Thread.currentThread().interrupt();
+         throw e;
       }
-      // only continues searching if there are more valid words possible down this path
-      if (searchData[1] > 0) {
-         final ArrayList<Vertex> adj = g.getNeighbors(r, c);   // acquires adjacent letters of board
-         for (final Vertex v : adj) {
-            wordRecurr(wrd, g, b, visited, v.getX(), v.getY(), w);   // recursive calls to all adjacent letters
+      if (rejected != null) {
+         if (failure.get() != null) {
+            rejected.addSuppressed(failure.get());
          }
+         throw rejected;
+      }
+      if (failure.get() != null) {
+         throw new IllegalStateException("solving a board failed", failure.get());
       }
-      visited[r][c] = 0;   // sets visited marker back to 0
-      return 0;
    }
 
    /**
-    * returns an ArrayList of the path in Word w
-    * @param w word to obtain path from
-    * */
-   private ArrayList<Location> getWordPath(final Word w) {
-      final ArrayList<Location> locs = new ArrayList<Location>();
-      for (int i = 0; i < w.getPathLength(); i++) {
-         locs.add(w.getLetterLocation(i));
-      }
-      return locs;
-   }
-
-   /**
-    * creates a priority queue of all the letters in the board, keying based on length of list, creating a heatmap of
-    * the letters with the most children near it
-    * @param b 2d array representing boggle board
-    * @return heatmap of which letters have children near them
-    */
-   private PriorityQueue<Entry> generateHeatMap(final char[][] b, boardGraph graph) {
-      // priority queue that will key based on # of children
-      final PriorityQueue<Entry> hm = new PriorityQueue<Entry>(Comparator.reverseOrder());
-      // loops through all letters on board
-      for (int r = 0; r < 4; r++) {
-         for (int c = 0; c < 4; c++) {
-            // prepares an ArrayList to hold the children of that letter in the trie
-            final ArrayList<String> children = dictionary.getChildren(String.valueOf(b[r][c]));
-            // prepares an ArrayList to hold the children of that letter in the board
-            final ArrayList<Vertex> adj = graph.getNeighbors(r, c);
-            // loop through children, remove all that are not adjacent to the current letter
-            for (int i = children.size() - 1; i >= 0; i--) {
-               if (!adj.contains(children.get(i))) {
-                  children.remove(i);
+    * solves a chunk of boards with scratch borrowed for the whole chunk
+    * @param chunk boards to solve
+    * @param size number of boards in chunk
+    * @param first batch index of chunk[0]
+    * @param listener receives the words of every board
+    */
+   private void solveChunk(final char[][][] chunk, final int size, final long first, final ResultListener listener) {
+      Scratch s = idle.poll();
+      if (s == null) {
+         s = new Scratch(dictionary);
+      }
+      try {
+         final SolveCache c = cache;
+         for (int i = 0; i < size; i++) {
+            Word[] words = c == null ? null : c.get(chunk[i]);
+            if (words == null) {
+               s.top.clear();
+               s.search.search(chunk[i], s.top);
+               words = s.top.toWords(chunk[i][0].length);
+               if (c != null) {
+                  c.put(chunk[i], words);
                }
             }
-            // appends a new Entry using children list
-            hm.add(new Entry(children, r, c));
+            listener.solved(first + i, chunk[i], words);
+         }
+      } finally {
+         idle.offer(s);
+      }
+   }
+
+   // task that searches from a range of start cells, splitting it in half until each task has a single start cell
+   private class StartCells extends RecursiveTask<TopWords> {
+      private static final long serialVersionUID = 1L;   // RecursiveTask is Serializable, tasks are never serialized
+      private final char[][] board;
+      private final int from;
+      private final int to;
+
+      /**
+       * constructor for a task over start cells from through to - 1
+       * @param b 2d array representing the boggle board
+       * @param f first start cell
+       * @param t start cell after the last one
+       */
+      public StartCells(final char[][] b, final int f, final int t) {
+         board = b;
+         from = f;
+         to = t;
+      }
+
+      /**
+       * searches the range with a private collector, or splits it and merges the halves' collectors, dropping duplicates
+       * @return collector holding the 20 highest scoring words starting in the range
+       */
+      @Override
+      protected TopWords compute() {
+         if (to - from == 1) {
+            final TopWords top = new TopWords(20, 2 * board.length * board[0].length);
+            new WordSearch(dictionary).search(board, from, to, top);
+            return top;
          }
+         final int mid = (from + to) >>> 1;
+         final StartCells left = new StartCells(board, from, mid);
+         left.fork();
+         final TopWords top = new StartCells(board, mid, to).compute();
+         top.addAll(left.join());
+         return top;
       }
-      return hm;
    }
 }
@@ -0,0 +1,104 @@
+/*
+Authors (group members): Alex Thomas, T'Avion Rodgers, Anthony Ciero, Jaylin Ollivierre
+Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.edu, aciero2022@my.fit.edu jollivierre2022@my.fit.edu
+Group name: C.A.M.E.R.O.N.
+Course: cse2010
+Section: 12
+Description: decides if a word can ever be spelled by a set of dice, where each die shows one face and can be used at
+             most once. A word is spellable when its tiles (QU counts as the single Q face) can be matched to distinct
+             dice that carry them, which is found with augmenting paths over a bit mask of dice per letter
+*/
+
+public class DiceFilter {
+   // the 16 dice EvalBogglePlayer rolls
+   public static final String[] CLASSIC_DICE = {
+      "AAEEGN", "ABBJOO", "ACHOPS", "AFFKPS", "AOOTTW", "CIMOTU", "DEILRX", "DELRVY",
+      "DISTTY", "EEGHNW", "EEINSU", "EHRTVW", "EIOSST", "ELRTTY", "HIMNUQ", "HLNNRZ"};
+
+   private final long[] diceWithLetter = new long[26];   // bit d of diceWithLetter[i] is set if die d has letter 'a' + i
+   private final int diceCount;
+   private final int[] tiles = new int[64];      // letter of each tile of the word being checked
+   private final int[] owner = new int[64];      // tile each die is matched to, -1 if the die is free
+   private long visited;                         // dice already tried while placing the current tile
+
+   /**
+    * constructor for a DiceFilter over a set of dice
+    * @param dice faces of each die, one String per die, in either case; at most 64 dice
+    */
+   public DiceFilter(final String[] dice) {
+      if (dice.length > 64) {
+         throw new IllegalArgumentException("at most 64 dice are supported, got " + dice.length);
+      }
+      diceCount = dice.length;
+      for (int d = 0; d < dice.length; d++) {
+         for (int i = 0; i < dice[d].length(); i++) {
+            final int letter = Trie.index(dice[d].charAt(i));
+            if (letter != -1) {
+               diceWithLetter[letter] |= 1L << d;
+            }
+         }
+      }
+   }
+
+   /**
+    * constructor for a DiceFilter over the same dice as another, so that each thread can check words with its own
+    * @param other filter to copy the dice of
+    */
+   public DiceFilter(final DiceFilter other) {
+      diceCount = other.diceCount;
+      System.arraycopy(other.diceWithLetter, 0, diceWithLetter, 0, diceWithLetter.length);
+   }
+
+   /**
+    * determines if some roll of the dice could show every tile of a word; not safe for use by several threads at once
+    * @param word word to check, in either case, such as a String or a CharBuffer over a reused array
+    * @return true if the word's tiles can be assigned to distinct dice
+    */
+   public boolean canSpell(final CharSequence word) {
+      int count = 0;
+      for (int i = 0; i < word.length(); i++) {
+         final int letter = Trie.index(word.charAt(i));
+         if (letter == -1 || diceWithLetter[letter] == 0 || count == diceCount) {
+            return false;
+         }
+         // a Q face stands for QU, so a Q must be followed by a U that then needs no die of its own
+         if (letter == 'q' - 'a') {
+            if (i + 1 == word.length() || Trie.index(word.charAt(i + 1)) != 'u' - 'a') {
+               return false;
+            }
+            i++;
+         }
+         tiles[count++] = letter;
+      }
+      for (int d = 0; d < diceCount; d++) {
+         owner[d] = -1;
+      }
+      for (int t = 0; t < count; t++) {
+         visited = 0L;
+         if (!augment(t)) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * tries to give tile t a die, moving tiles that already hold a die to other dice when needed
+    * @param t tile to place
+    * @return true if t was given a die
+    */
+   private boolean augment(final int t) {
+      long options = diceWithLetter[tiles[t]] & ~visited;
+      while (options != 0) {
+         final int d = Long.numberOfTrailingZeros(options);
+         visited |= 1L << d;
+         if (owner[d] == -1 || augment(owner[d])) {
+            owner[d] = t;
+            return true;
+         }
+         // dice visited by the failed reassignment cannot free a die either
+         options &= ~visited;
+      }
+      return false;
+   }
+}
@@ -0,0 +1,166 @@
+/*
+Authors (group members): Alex Thomas, T'Avion Rodgers, Anthony Ciero, Jaylin Ollivierre
+Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.edu, aciero2022@my.fit.edu jollivierre2022@my.fit.edu
+Group name: C.A.M.E.R.O.N.
+Course: cse2010
+Section: 12
+Description: writes a smaller word list for BogglePlayer from simulated games. Plays boards rolled by
+             EvalBogglePlayer.generateBoard, seeded the way its multi-seed mode seeds them, adds up the points each
+             word earns in the top 20 of every board, and keeps the fewest words that earned a chosen share of all
+             points. The reduced list is then played against the full one on boards that were not profiled, and the
+             points lost there are reported, since words that are dropped can be replaced by shorter ones.
+             Usage: java DictionaryProfiler wordFile outFile [boards [seed [coverage]]]
+*/
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+public class DictionaryProfiler {
+   private static final int HOLDOUT_BOARDS = 10000;   // unprofiled boards the reduced list is checked on
+
+   /**
+    * boards of EvalBogglePlayer's multi-seed mode, rolled one at a time as they are asked for
+    * @param seed seed of the first board
+    * @param count number of boards
+    * @return Iterable over the boards seeded seed through seed + count - 1
+    */
+   private static Iterable<char[][]> boards(final long seed, final long count) {
+      return () -> new Iterator<char[][]>() {
+         private long index = 0;
+
+         @Override
+         public boolean hasNext() {
+            return index < count;
+         }
+
+         @Override
+         public char[][] next() {
+            return EvalBogglePlayer.generateBoard(new Random(seed + index++));
+         }
+      };
+   }
+
+   /**
+    * plays boards and adds up the points each word earns in their top 20s
+    * @param player player to profile
+    * @param seed seed of the first board
+    * @param count number of boards
+    * @param pool executor to play on
+    * @return points earned by each word, in lower case
+    * @throws InterruptedException if interrupted while waiting for the executor
+    */
+   static Map<String, LongAdder> profile(final BogglePlayer player, final long seed, final long count,
+                                         final ExecutorService pool) throws InterruptedException {
+      final ConcurrentHashMap<String, LongAdder> points = new ConcurrentHashMap<String, LongAdder>();
+      player.getWords(boards(seed, count), pool, (index, board, words) -> {
+         for (final Word w : words) {
+            points.computeIfAbsent(w.getWord().toLowerCase(), k -> new LongAdder()).add(TopWords.score(w.getWord().length()));
+         }
+      });
+      return points;
+   }
+
+   /**
+    * picks the fewest words whose points add up to a share of the points of every word
+    * @param points points earned by each word
+    * @param coverage share of the points to keep, greater than 0 and at most 1
+    * @return kept words in alphabetical order, ready to be written as a word list
+    */
+   static ArrayList<String> reduce(final Map<String, LongAdder> points, final double coverage) {
+      final ArrayList<Map.Entry<String, LongAdder>> ranked = new ArrayList<Map.Entry<String, LongAdder>>(points.entrySet());
+      ranked.sort((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()));
+      long total = 0;
+      for (final Map.Entry<String, LongAdder> e : ranked) {
+         total += e.getValue().sum();
+      }
+      final ArrayList<String> kept = new ArrayList<String>();
+      long covered = 0;
+      for (final Map.Entry<String, LongAdder> e : ranked) {
+         if (covered >= coverage * total) {
+            break;
+         }
+         kept.add(e.getKey());
+         covered += e.getValue().sum();
+      }
+      Collections.sort(kept);
+      return kept;
+   }
+
+   /**
+    * plays boards and scores every word against the full word list, as EvalBogglePlayer does
+    * @param player player to play with
+    * @param validator validator holding the full word list
+    * @param seed seed of the first board
+    * @param count number of boards
+    * @param pool executor to play on
+    * @return long total points
+    * @throws InterruptedException if interrupted while waiting for the executor
+    */
+   static long play(final BogglePlayer player, final WordValidator validator, final long seed, final long count,
+                    final ExecutorService pool) throws InterruptedException {
+      final LongAdder total = new LongAdder();
+      player.getWords(boards(seed, count), pool, (index, board, words) -> total.add(validator.calculatePoints(words, board)));
+      return total.sum();
+   }
+
+   /**
+    * profiles, writes the reduced list and reports what it costs on boards that were not profiled
+    * @param args word list, reduced list to write, boards to profile (100000), seed of the first one (1) and share of
+    *             points to keep (0.999)
+    * @throws IOException if either file cannot be used
+    * @throws InterruptedException if interrupted while playing
+    */
+   public static void main(final String[] args) throws IOException, InterruptedException {
+      if (args.length < 2 || args.length > 5) {
+         System.err.println("Usage: DictionaryProfiler wordFile outFile [boards [seed [coverage]]]");
+         System.exit(-1);
+      }
+      final long count = args.length > 2 ? Long.parseLong(args[2]) : 100000;
+      final long seed = args.length > 3 ? Long.parseLong(args[3]) : 1;
+      final double coverage = args.length > 4 ? Double.parseDouble(args[4]) : 0.999;
+      if (count < 1 || !(coverage > 0 && coverage <= 1)) {
+         System.err.println("Usage: DictionaryProfiler wordFile outFile [boards [seed [coverage]]]");
+         System.err.println("boards must be at least 1 and coverage greater than 0 and at most 1");
+         System.exit(-1);
+      }
+      final ExecutorService pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+      try {
+         final BogglePlayer full = new BogglePlayer(args[0], true);
+         final Map<String, LongAdder> points = profile(full, seed, count, pool);
+         final ArrayList<String> kept = reduce(points, coverage);
+         Files.write(Paths.get(args[1]), kept);
+         System.out.println(points.size() + " words scored on " + count + " boards, kept " + kept.size()
+               + " for " + coverage + " of their points in " + args[1]);
+
+         // boards after the profiled ones, so that none of them was seen while choosing words
+         final WordValidator validator = new WordValidator(args[0]);
+         final long holdout = seed + count;
+         long start = System.nanoTime();
+         final long before = play(full, validator, holdout, HOLDOUT_BOARDS, pool);
+         final double fullMs = (System.nanoTime() - start) / 1e6;
+         final BogglePlayer reduced = new BogglePlayer(args[1], true);
+         start = System.nanoTime();
+         final long after = play(reduced, validator, holdout, HOLDOUT_BOARDS, pool);
+         final double reducedMs = (System.nanoTime() - start) / 1e6;
+         System.out.printf("%d unprofiled boards: full list %d points in %.0f ms, reduced list %d points in %.0f ms",
+               HOLDOUT_BOARDS, before, fullMs, after, reducedMs);
+         if (before > 0) {
+            System.out.printf(", %.3f%% of points lost%n", 100.0 * (before - after) / before);
+         } else {
+            System.out.println(", no points to lose");
+         }
+      } finally {
+         pool.shutdown();
+      }
+   }
+}
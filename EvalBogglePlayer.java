@@ -1,5 +1,3 @@
-import java.io.FileReader;
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.lang.management.*;
 import java.text.DecimalFormat;
@@ -7,6 +5,11 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
 //import java.util.Scanner;
 
 /*
@@ -14,11 +17,14 @@ import java.util.Random;
   Author: Taher Patanwala
   Pseudocode: Philip Chan
 
-  Usage: EvalBogglePlayer wordFile [seed]
+  Usage: EvalBogglePlayer wordFile [seed [boardCount [threads]]]
 
   Input:
   wordFile has valid words, one on each line
   seed is for generating different boards [optional]
+  boardCount plays boards for seeds seed, seed+1, ..., seed+boardCount-1 and
+     reports the distribution of each measure instead of one sample [optional]
+  threads generates and scores that many boards at once [optional, default 1]
 
   Description:
 
@@ -46,15 +52,24 @@ import java.util.Random;
  */
 
 public class EvalBogglePlayer {
-    private static ArrayList<String> dictionary = new ArrayList<>();
+    private static WordValidator validator;
     private static final ArrayList<String> boggleDices = new ArrayList<>(Arrays.asList(
             "AAEEGN", "ABBJOO", "ACHOPS", "AFFKPS", "AOOTTW", "CIMOTU", "DEILRX", "DELRVY",
             "DISTTY", "EEGHNW", "EEINSU", "EHRTVW", "EIOSST", "ELRTTY", "HIMNUQ", "HLNNRZ"));
 
     public static void main(String[] args) throws IOException {
 
-        if (args.length < 1 || args.length > 2) {
-            System.err.println("Usage: EvalBogglePlayer wordFile [seed]");
+        if (args.length < 1 || args.length > 4) {
+            System.err.println("Usage: EvalBogglePlayer wordFile [seed [boardCount [threads]]]");
+            System.exit(-1);
+        }
+
+        //Multi-seed mode needs at least one board and one thread
+        int boardCount = args.length >= 3 ? Integer.parseInt(args[2]) : 1;
+        int threads = args.length == 4 ? Integer.parseInt(args[3]) : 1;
+        if (boardCount < 1 || threads < 1) {
+            System.err.println("Usage: EvalBogglePlayer wordFile [seed [boardCount [threads]]]");
+            System.err.println("boardCount and threads must be at least 1");
             System.exit(-1);
         }
 
@@ -92,29 +107,22 @@ public class EvalBogglePlayer {
 
         //Default seed if second argument is not passed
         long seed = 123456789;
-        if (args.length == 2) {
+        if (args.length >= 2) {
             seed = Long.parseLong(args[1]);
         }
+
+        //Multi-seed mode: play many boards and report distributions
+        if (args.length >= 3) {
+            playManyBoards(player, args[0], seed, boardCount, threads);
+            return;
+        }
         System.out.println("Playing Boggle...");
 
 
         Random rnd = new Random(seed);
 
         //Generate random board, and pass it to the BogglePlayer to play Boggle
-        char[][] board = new char[4][4];
-        int length = boggleDices.size();
-
-        //Create random board
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                int diceIndex = rnd.nextInt(length);
-                String dice = boggleDices.get(diceIndex);
-                board[i][j] = dice.charAt(rnd.nextInt(6));
-                boggleDices.set(diceIndex, boggleDices.get(length - 1));
-                boggleDices.set(length - 1, dice);
-                length--;
-            }
-        }
+        char[][] board = generateBoard(rnd);
 
         //Calculate the time taken to find the words on the board
         long startTime = bean.getCurrentThreadCpuTime();
@@ -141,11 +149,7 @@ public class EvalBogglePlayer {
 
        
         //Read the dictionary
-        BufferedReader file = new BufferedReader(new FileReader(args[0]));
-        String line;
-        while ( (line = file.readLine()) != null) {
-            dictionary.add(line.toUpperCase());
-        }
+        validator = new WordValidator(args[0]);
 
         //Calculate points for the words found
         int totalPoints = calculatePoints(words, board);
@@ -164,136 +168,166 @@ public class EvalBogglePlayer {
     }
 
     /**
-     * Calculates the points for the words found on the board
+     * Plays boardCount boards, one per seed starting at seed, and prints
+     * the distribution of solve time, points, memory and overall score
      *
-     * @param words The list of words whose points are to be calculated
-     * @param board The board on which the words were found
-     * @return Returns the number of points
+     * The dictionary for scoring is only read once every timed solve is
+     * done, so it is not part of the memory of any board, and the boards
+     * are solved again untimed to score them rather than holding every
+     * board's words, which would grow the heap from board to board
+     *
+     * @param player     The player to evaluate
+     * @param wordFile   File of valid words to score the boards with
+     * @param seed       Seed of the first board
+     * @param boardCount Number of boards to play
+     * @param threads    Number of boards played at once
+     * @throws IOException if wordFile cannot be read
      */
-    private static int calculatePoints(Word[] words, char[][] board) {
-        int points = 0;
-
-	if (words == null)
-	    {
-		System.out.println("Your word list is null");
-		return(0);
-	    }
-	    
-
-	int wordListLen = words.length;	
-        if (wordListLen < 0)
-	  {
-	      System.out.printf("Your word list has negative length: %d\n", wordListLen);
-	    return 0;  
-	  }
-	else if (wordListLen > 20) 
-	  {
-	    points -= (wordListLen - 20);  //Penalty if more than 20 words were returned
-	    wordListLen = 20;              // only the first 20 are counted
-	  }
-
-
-        //Calculate points for the first 20 words, or fewer
-        for (int index = 0; index < wordListLen; index++) {
-            Word w = words[index];
-            if (w != null) {
-                //Check if the word is unique
-                boolean duplicate = false;
-                for (int i = 0; i < index; i++) {
-                    if (w.getWord().equals(words[i].getWord())) {
-                        duplicate = true;
-			break;
-                    }
-                }
-
-                //If the word is duplicate then give penalty, else check if word is valid
-                if (duplicate) {
-                    points -= (w.getPathLength() - 2) * (w.getPathLength() - 2);
-                } else {
-                    points += checkForWordValidity(w, board);
-                }
-            }
-	    else { // word is null
-		points--;
-	    }
+    private static void playManyBoards(BogglePlayer player, String wordFile, long seed, int boardCount,
+                                       int threads) throws IOException {
+        System.out.printf("Playing Boggle on %d boards, seeds %d to %d, %d thread(s)...\n",
+                          boardCount, seed, seed + boardCount - 1, threads);
+        //The peak heap is shared by every thread, so it only belongs to one board when they run one at a time
+        boolean measureMemory = threads == 1;
+        if (!measureMemory)
+            System.out.println("Memory and Overall Score are left out while boards run at once, use 1 thread for them");
+
+        double[] times = new double[boardCount];
+        double[] points = new double[boardCount];
+        double[] memories = new double[boardCount];
+        double[] scores = new double[boardCount];
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            //Timed solves, with nothing of the evaluator's on the heap but the boards
+            runBoards(pool, boardCount, index -> {
+                ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+                char[][] board = generateBoard(new Random(seed + index));
+                if (measureMemory)
+                    resetPeakMemoryUsage();
+
+                long startTime = bean.getCurrentThreadCpuTime();
+                player.getWords(board);
+                long endTime = bean.getCurrentThreadCpuTime();
+                long memory = peakMemoryUsage();
+
+                double elapsed = (endTime - startTime) / 1.0E9;
+                if (elapsed <= 0) // too small to measure, unlikely
+                    elapsed = 1.0 / 1.0E9;
+                if (memory <= 0) // too small to measure, highly unlikely
+                    memory = 1;
+                times[index] = elapsed;
+                memories[index] = memory;
+            });
+
+            //Read the dictionary, then score each board from an untimed solve
+            validator = new WordValidator(wordFile);
+            runBoards(pool, boardCount, index -> {
+                char[][] board = generateBoard(new Random(seed + index));
+                int totalPoints = calculatePoints(player.getWords(board), board);
+                points[index] = totalPoints;
+                scores[index] = (totalPoints * totalPoints) / Math.sqrt(times[index] * memories[index]);
+            });
+        } finally {
+            pool.shutdown();
         }
 
-	if (points < 0)
-	    points = 0;
-
-        return points;
+        DecimalFormat df = new DecimalFormat("0.####E0");
+        System.out.printf("%-22s %12s %12s %12s %12s %12s %12s\n", "", "mean", "min", "p50", "p90", "p99", "max");
+        printDistribution("Time in seconds:", times, df);
+        printDistribution("Points:", points, df);
+        if (measureMemory) {
+            printDistribution("Used memory in bytes:", memories, df);
+            printDistribution("Overall Score:", scores, df);
+        }
     }
 
     /**
-     * Checks if the word is valid and assigns positive points for valid word and negative points for invalid word
+     * Runs a task for each board on the pool and waits for all of them
      *
-     * @param word  The word that is to be evaluated
-     * @param board The board on which the word was found
-     * @return Positive or negative points for the word
+     * @param pool       Threads to run the tasks on
+     * @param boardCount Number of boards
+     * @param task       Work for one board, given the board's index
      */
-    private static int checkForWordValidity(Word word, char[][] board) {
-        int length = word.getWord().length();
-
-        //Check if path length is same as word length
-        int numberOfQs = 0;
-        for (int i = 0; i < word.getWord().length(); i++) {
-            if(word.getWord().charAt(i) == 'Q'){
-                numberOfQs++;
-            }
+    private static void runBoards(ExecutorService pool, int boardCount, IntConsumer task) {
+        List<Future<?>> pending = new ArrayList<>();
+        for (int b = 0; b < boardCount; b++) {
+            final int index = b;
+            pending.add(pool.submit(() -> task.accept(index)));
         }
-        if(length != word.getPathLength() + numberOfQs){
-            return -((length - 2) * (length - 2));
-        }
-
-        //Check if word has at least 3 letters and at most 16 characters
-        if (length < 3)
-            return -1;
-        if (length > 16)
-	    return -((length - 2) * (length - 2));
-	
-        //Check if the letters of the word are adjacent on the board
-        for (int i = 1; i < word.getPathLength(); i++) {
-            if (squareDistance(word.getLetterLocation(i - 1), word.getLetterLocation(i)) > 2) {
-                return -((length - 2) * (length - 2));
-            }
+        try {
+            for (Future<?> f : pending)
+                f.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("playing a board failed", e);
         }
+    }
 
-        //Check each letter on the board is used at most once and if letter are are the board or not
-        boolean[][] used = new boolean[4][4];
-        for (int i = 0, letterIndex = 0; i < word.getPathLength(); i++, letterIndex++) {
+    /**
+     * Prints the mean, min, p50, p90, p99 and max of a measure
+     *
+     * @param label  Name of the measure
+     * @param values One sample per board, sorted by this method
+     * @param df     Format for each number
+     */
+    private static void printDistribution(String label, double[] values, DecimalFormat df) {
+        Arrays.sort(values);
+        double sum = 0;
+        for (double v : values)
+            sum += v;
+        System.out.printf("%-22s %12s %12s %12s %12s %12s %12s\n", label,
+                          df.format(sum / values.length), df.format(values[0]),
+                          df.format(percentile(values, 50)), df.format(percentile(values, 90)),
+                          df.format(percentile(values, 99)), df.format(values[values.length - 1]));
+    }
 
-            int row = word.getLetterRow(i);
-            int col = word.getLetterCol(i);
+    /**
+     * Nearest-rank percentile of sorted values
+     *
+     * @param sorted Values in increasing order
+     * @param p      Percentile, 0 to 100
+     * @return Returns the smallest value that at least p percent of the values are at or below
+     */
+    private static double percentile(double[] sorted, double p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
 
-            if (used[row][col] || board[row][col] != word.getWord().charAt(letterIndex))
-                return -((length - 2) * (length - 2));
-            else
-                used[row][col] = true;
-            if (word.getWord().charAt(letterIndex) == 'Q')
-                letterIndex++;
-        }
+    /**
+     * Generates a random board from the Boggle dice, the same way main does
+     * for a single board, so seed s gives the same board in either mode
+     *
+     * @param rnd Random number generator seeded for this board
+     * @return Returns the board
+     */
+    static char[][] generateBoard(Random rnd) {
+        ArrayList<String> dices = new ArrayList<>(boggleDices);
+        char[][] board = new char[4][4];
+        int length = dices.size();
 
-        //Check if word exists in the dictionary
-        if (!dictionary.contains(word.getWord().toUpperCase())) {
-            return -((length - 2) * (length - 2));
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                int diceIndex = rnd.nextInt(length);
+                String dice = dices.get(diceIndex);
+                board[i][j] = dice.charAt(rnd.nextInt(6));
+                dices.set(diceIndex, dices.get(length - 1));
+                dices.set(length - 1, dice);
+                length--;
+            }
         }
-
-        return (length - 2) * (length - 2);
+        return board;
     }
 
     /**
-     * Calculates the square distance between the two location objects
+     * Calculates the points for the words found on the board
      *
-     * @param l1 The first Location
-     * @param l2 The second Location
-     * @return Returns the distance square the two locations
+     * @param words The list of words whose points are to be calculated
+     * @param board The board on which the words were found
+     * @return Returns the number of points
      */
-    private static int squareDistance(Location l1, Location l2) {
-        return (l1.row - l2.row) * (l1.row - l2.row) + (l1.col - l2.col) * (l1.col - l2.col);
+    private static int calculatePoints(Word[] words, char[][] board) {
+        return validator.calculatePoints(words, board);
     }
 
-
-
     /*
      * return peak memory usage in bytes
      *
@@ -323,5 +357,16 @@ public class EvalBogglePlayer {
     return total;
     }
 
+    /*
+     * reset the peak memory usage of the HEAP pools to their current usage,
+     * so that the next peakMemoryUsage() covers only what runs in between
+     */
+    private static void resetPeakMemoryUsage()
+    {
+    for (MemoryPoolMXBean memoryPoolMXBean : ManagementFactory.getMemoryPoolMXBeans())
+        if (memoryPoolMXBean.getType() == MemoryType.HEAP)
+            memoryPoolMXBean.resetPeakUsage();
+    }
+
 }
 
@@ -0,0 +1,86 @@
+/*
+Authors (group members): Alex Thomas, T'Avion Rodgers, Anthony Ciero, Jaylin Ollivierre
+Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.edu, aciero2022@my.fit.edu jollivierre2022@my.fit.edu
+Group name: C.A.M.E.R.O.N.
+Course: cse2010
+Section: 12
+Description: operations every dictionary layout offers to BogglePlayer. Nodes are named by int cursor handles from 0 to
+             size() - 1 so that walking a layout never allocates, whether its nodes are objects, bits or bytes in a buffer
+*/
+
+import java.util.ArrayList;
+
+public interface Lexicon {
+   /**
+    * cursor handle of the root, the empty prefix
+    * @return int handle of the root
+    */
+   int root();
+
+   /**
+    * moves a cursor one letter down the dictionary, allocates nothing
+    * @param node handle of the current node
+    * @param letter next letter, in either case
+    * @return handle of the child for letter, or -1 if no word continues with it
+    */
+   int child(int node, char letter);
+
+   /**
+    * moves a cursor over one board tile. A 'Q' tile stands for the letters QU, as in Word and EvalBogglePlayer, so it
+    * advances two levels in one call
+    * @param node handle of the current node
+    * @param tile letter on the tile, in either case
+    * @return handle reached after the tile's letters, or -1 if no word continues with them
+    */
+   default int tile(final int node, final char tile) {
+      final int next = child(node, tile);
+      if (next == -1 || (tile != 'Q' && tile != 'q')) {
+         return next;
+      }
+      return child(next, 'u');
+   }
+
+   /**
+    * determines if the letters leading to a node form a word
+    * @param node handle of the node
+    * @return true if node marks the end of a word
+    */
+   boolean isWord(int node);
+
+   /**
+    * determines if any word continues past a node
+    * @param node handle of the node
+    * @return true if node has at least one child
+    */
+   boolean hasChildren(int node);
+
+   /**
+    * upper bound on the letters that can still be added to a node's prefix, used to stop a search that cannot reach a
+    * word long enough to matter
+    * @param node handle of the node
+    * @return number of letters in the longest word below node minus the letters leading to node, 0 if the only word
+    * is the prefix itself
+    */
+   int maxLength(int node);
+
+   /**
+    * accessor method for the number of nodes, every handle is less than this
+    * @return int number of nodes
+    */
+   int size();
+
+   /**
+    * used for determining if a string exists as a word in the dictionary
+    * @param query String to search for, in either case
+    * @return 2 element array of ints, first element is 1 or 0 if query exists or doesn't exist respectively, second element is # of children
+    * the last node searched has
+    */
+   int[] search(String query);
+
+   /**
+    * method to return the list of children in the dictionary for the last character in key
+    * @param key String to find children of
+    * @return ArrayList of the letters that can follow key, empty if key is not in the dictionary
+    */
+   ArrayList<String> getChildren(String key);
+}
@@ -0,0 +1,321 @@
+/*
+Authors (group members): Alex Thomas, T'Avion Rodgers, Anthony Ciero, Jaylin Ollivierre
+Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.edu, aciero2022@my.fit.edu jollivierre2022@my.fit.edu
+Group name: C.A.M.E.R.O.N.
+Course: cse2010
+Section: 12
+Description: a succinct trie stored as a level-order unary degree sequence (LOUDS) bit vector, a label array and a terminal
+             bit vector. Nodes are numbered in breadth first order starting with 0 for the root, and node k is written as
+             one 1 bit per child followed by a 0 bit, so the children of node k start right after the k-th 0 and the child
+             on the e-th 1 bit of the whole sequence is node e + 1. A nibble per node keeps the length bound of
+             maxLength. Takes about 15 bits per node instead of a Node object
+*/
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class LoudsTrie implements Lexicon {
+   private static final int SUPER_BITS = 512;    // bits covered by each entry of the rank directory
+   private static final int ZERO_SAMPLE = 256;   // every ZERO_SAMPLE-th 0 bit has its position sampled for select
+   private static final int UNBOUNDED = 15;      // largest height a nibble holds, stands for 15 or more letters
+
+   private long[] bits = new long[64];     // LOUDS sequence, bit p is bit (p % 64) of bits[p / 64]
+   private int length = 0;                 // number of bits in the LOUDS sequence
+   private byte[] labels = new byte[64];   // letter of each edge, 0 for 'a' through 25 for 'z', in the order of the 1 bits
+   private long[] terminal;                // bit k is set if node k marks the end of a word
+   private byte[] heights;                 // maxLength of node k in bits 4 * (k % 2) to 4 * (k % 2) + 3 of heights[k / 2]
+   private int size = 0;                   // number of nodes
+   private int[] rankSuper;                // number of 1 bits before each SUPER_BITS block
+   private int[] zeroSamples;              // position of the (i * ZERO_SAMPLE + 1)-th 0 bit
+
+   /**
+    * constructor that copies the words of another dictionary, walking it breadth first so that each node's children
+    * are numbered next to each other. A minimized Trie is expanded back into a tree, so any layout can be copied
+    * @param source dictionary to copy
+    */
+   public LoudsTrie(final Lexicon source) {
+      int[] order = new int[1024];   // source handles in breadth first order, doubles as the queue
+      order[0] = source.root();
+      size = 1;
+      terminal = new long[16];
+      heights = new byte[16];
+      for (int k = 0; k < size; k++) {
+         final int node = order[k];
+         if ((k >>> 1) >= heights.length) {
+            heights = Arrays.copyOf(heights, heights.length * 2);
+         }
+         heights[k >>> 1] |= Math.min(source.maxLength(node), UNBOUNDED) << ((k & 1) << 2);
+         if (source.isWord(node)) {
+            if ((k >>> 6) >= terminal.length) {
+               terminal = Arrays.copyOf(terminal, terminal.length * 2);
+            }
+            terminal[k >>> 6] |= 1L << k;
+         }
+         for (int letter = 0; letter < 26; letter++) {
+            final int c = source.child(node, (char) ('a' + letter));
+            if (c == -1) {
+               continue;
+            }
+            // one 1 bit and one label per child, the child becomes the next node in breadth first order
+            if (size == order.length) {
+               order = Arrays.copyOf(order, size * 2);
+            }
+            order[size] = c;
+            if (size - 1 == labels.length) {
+               labels = Arrays.copyOf(labels, labels.length * 2);
+            }
+            labels[size - 1] = (byte) letter;
+            size++;
+            appendBit(true);
+         }
+         appendBit(false);   // closes the children of node k
+      }
+      bits = Arrays.copyOf(bits, (length + 63) >>> 6);
+      labels = Arrays.copyOf(labels, size - 1);
+      terminal = Arrays.copyOf(terminal, (size + 63) >>> 6);
+      heights = Arrays.copyOf(heights, (size + 1) >>> 1);
+      buildDirectories();
+   }
+
+   /**
+    * appends one bit to the end of the LOUDS sequence
+    * @param one true to append a 1 bit, false for a 0 bit
+    */
+   private void appendBit(final boolean one) {
+      if ((length >>> 6) == bits.length) {
+         bits = Arrays.copyOf(bits, bits.length * 2);
+      }
+      if (one) {
+         bits[length >>> 6] |= 1L << length;
+      }
+      length++;
+   }
+
+   /**
+    * fills the rank directory and the select samples once the LOUDS sequence is complete
+    */
+   private void buildDirectories() {
+      rankSuper = new int[(length + SUPER_BITS - 1) / SUPER_BITS + 1];
+      zeroSamples = new int[size / ZERO_SAMPLE + 1];   // there is exactly one 0 bit per node
+      int ones = 0;
+      int zeros = 0;
+      for (int p = 0; p < length; p++) {
+         if (p % SUPER_BITS == 0) {
+            rankSuper[p / SUPER_BITS] = ones;
+         }
+         if (bit(p)) {
+            ones++;
+         } else {
+            if (zeros % ZERO_SAMPLE == 0) {
+               zeroSamples[zeros / ZERO_SAMPLE] = p;
+            }
+            zeros++;
+         }
+      }
+      rankSuper[rankSuper.length - 1] = ones;
+   }
+
+   /**
+    * accessor method for one bit of the LOUDS sequence
+    * @param p position of the bit
+    * @return true if bit p is a 1
+    */
+   private boolean bit(final int p) {
+      return (bits[p >>> 6] & (1L << p)) != 0;
+   }
+
+   /**
+    * counts the 1 bits before a position, in constant time: one directory lookup plus at most 8 popcounts
+    * @param p position to count up to, exclusive
+    * @return number of 1 bits in positions 0 through p - 1
+    */
+   int rank1(final int p) {
+      int r = rankSuper[p / SUPER_BITS];
+      final int word = p >>> 6;
+      for (int w = (p / SUPER_BITS) * (SUPER_BITS / 64); w < word; w++) {
+         r += Long.bitCount(bits[w]);
+      }
+      if ((p & 63) != 0) {
+         r += Long.bitCount(bits[word] & (-1L >>> (64 - (p & 63))));
+      }
+      return r;
+   }
+
+   /**
+    * finds the j-th 0 bit, in constant time: one sample lookup then a scan that covers at most ZERO_SAMPLE zeros
+    * @param j which 0 bit to find, counting from 1
+    * @return position of the j-th 0 bit
+    */
+   int select0(final int j) {
+      final int sample = (j - 1) / ZERO_SAMPLE;
+      int remaining = j - 1 - sample * ZERO_SAMPLE;   // zeros left to skip after the sampled one
+      int p = zeroSamples[sample];
+      int w = p >>> 6;
+      long zeros = ~bits[w] & (-1L << p);   // 0 bits of the word at or after p
+      while (Long.bitCount(zeros) <= remaining) {
+         remaining -= Long.bitCount(zeros);
+         zeros = ~bits[++w];
+      }
+      // clears the lowest remaining zeros so that the j-th 0 bit is the lowest one left
+      for (int i = 0; i < remaining; i++) {
+         zeros &= zeros - 1;
+      }
+      return (w << 6) + Long.numberOfTrailingZeros(zeros);
+   }
+
+   /**
+    * position of the first bit of a node's children, just after the 0 bit that closes the node before it
+    * @param node handle of the node
+    * @return position in the LOUDS sequence
+    */
+   private int firstChildBit(final int node) {
+      return node == 0 ? 0 : select0(node) + 1;
+   }
+
+   /**
+    * cursor handle of the root, the empty prefix
+    * @return int handle of the root
+    */
+   public int root() {
+      return 0;
+   }
+
+   /**
+    * moves a cursor one letter down the trie, allocates nothing
+    * @param node handle of the current node
+    * @param letter next letter, in either case
+    * @return handle of the child for letter, or -1 if no word continues with it
+    */
+   public int child(final int node, final char letter) {
+      final int l = Trie.index(letter);
+      if (l == -1) {
+         return -1;
+      }
+      int p = firstChildBit(node);
+      int edge = rank1(p);
+      // labels of one node's edges are in increasing letter order, so the scan stops at the first larger letter
+      while (p < length && bit(p)) {
+         if (labels[edge] == l) {
+            return edge + 1;
+         }
+         if (labels[edge] > l) {
+            return -1;
+         }
+         p++;
+         edge++;
+      }
+      return -1;
+   }
+
+   /**
+    * determines if the letters leading to a node form a word
+    * @param node handle of the node
+    * @return true if node marks the end of a word
+    */
+   public boolean isWord(final int node) {
+      return (terminal[node >>> 6] & (1L << node)) != 0;
+   }
+
+   /**
+    * determines if any word continues past a node
+    * @param node handle of the node
+    * @return true if node has at least one child
+    */
+   public boolean hasChildren(final int node) {
+      final int p = firstChildBit(node);
+      return p < length && bit(p);
+   }
+
+   /**
+    * upper bound on the letters that can still be added to a node's prefix, exact below 15 letters
+    * @param node handle of the node
+    * @return number of letters in the longest word below node minus the letters leading to node, or Integer.MAX_VALUE
+    * if that is too long to store
+    */
+   public int maxLength(final int node) {
+      final int h = (heights[node >>> 1] >>> ((node & 1) << 2)) & 0xF;
+      return h == UNBOUNDED ? Integer.MAX_VALUE : h;
+   }
+
+   /**
+    * follows key through the trie one letter at a time
+    * @param key String to walk
+    * @return handle reached after the last character of key, or -1 if key leaves the trie
+    */
+   private int walk(final String key) {
+      int node = root();
+      for (int i = 0; i < key.length() && node != -1; i++) {
+         node = child(node, key.charAt(i));
+      }
+      return node;
+   }
+
+   /**
+    * method to return the list of children in the trie for the last character in key
+    * @param key String to find children of
+    * @return ArrayList of the letters that can follow key, empty if key is not in the trie
+    */
+   public ArrayList<String> getChildren(final String key) {
+      final ArrayList<String> ch = new ArrayList<String>();
+      final int node = walk(key);
+      if (node == -1) {
+         return ch;
+      }
+      int p = firstChildBit(node);
+      int edge = rank1(p);
+      while (p < length && bit(p)) {
+         ch.add(String.valueOf((char) ('a' + labels[edge])));
+         p++;
+         edge++;
+      }
+      return ch;
+   }
+
+   /**
+    * used for determining if a string exists as a word in the trie
+    * @param query String to search for, in either case
+    * @return 2 element array of ints, first element is 1 or 0 if query exists or doesn't exist respectively, second element is # of children
+    * the last node searched has
+    */
+   public int[] search(final String query) {
+      final int node = walk(query);
+      if (node == -1) {
+         return new int[] {0, 0};
+      }
+      int p = firstChildBit(node);
+      int count = 0;
+      while (p < length && bit(p)) {
+         p++;
+         count++;
+      }
+      return new int[] {isWord(node) ? 1 : 0, count};
+   }
+
+   /**
+    * accessor method for the number of nodes, including the root
+    * @return int number of nodes
+    */
+   public int size() {
+      return size;
+   }
+
+   /**
+    * approximate number of bytes held by the bit vectors, labels and directories
+    * @return long number of bytes
+    */
+   public long sizeInBytes() {
+      return 8L * bits.length + labels.length + 8L * terminal.length + heights.length + 4L * rankSuper.length + 4L * zeroSamples.length;
+   }
+
+   /**
+    * FOR DEBUGGING PURPOSES ONLY
+    * @param args
+    * @throws IOException
+    */
+   public static void main(final String[] args) throws IOException {
+      final LoudsTrie test = new LoudsTrie(new Trie(args[0], true));
+      System.out.println("done building, " + test.size() + " nodes in " + test.sizeInBytes() + " bytes");
+      System.out.println(Arrays.toString(test.search("apple")));
+   }
+}
@@ -0,0 +1,317 @@
+/*
+Authors (group members): Alex Thomas, T'Avion Rodgers, Anthony Ciero, Jaylin Ollivierre
+Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.edu, aciero2022@my.fit.edu jollivierre2022@my.fit.edu
+Group name: C.A.M.E.R.O.N.
+Course: cse2010
+Section: 12
+Description: a dictionary served straight from a ByteBuffer in a versioned binary format, so that a snapshot compiled
+             once can be memory mapped at startup instead of parsing the word list and rebuilding a Trie. Layout, all
+             ints little endian:
+               header  magic, version, node count, edge count
+               nodes   per node: letter mask (bit 'x' - 'a' set if there is a child for x, bits 26 to 30 the
+                       maxLength bound with 31 for anything longer, bit 31 set for a word), index of the node's
+                       first entry in the edge list
+               edges   handle of each child, the children of a node in increasing letter order
+             Children are found through the edge list rather than by position, so shared nodes of a minimized Trie
+             are written once. The same layout can also be built straight into direct memory with offHeap, which
+             leaves nothing on the heap for the collector to scan or count but the few fields of this object.
+             Usage to compile a snapshot: java PackedTrie wordFile snapshotFile
+*/
+
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+public class PackedTrie implements Lexicon {
+   static final int MAGIC = 0x544C4742;      // "BGLT" when read as little endian bytes
+   static final int VERSION = 2;             // 2 added the maxLength bound to the letter mask
+   private static final int HEADER_BYTES = 16;
+   private static final int NODE_BYTES = 8;
+   private static final int WORD_FLAG = 1 << 31;
+   private static final int LETTERS = (1 << 26) - 1;
+   private static final int HEIGHT_SHIFT = 26;
+   private static final int UNBOUNDED = 31;  // largest height the 5 bits hold, stands for 31 or more letters
+
+   private final ByteBuffer buffer;   // the whole snapshot, header included
+   private final int size;            // number of nodes
+   private final int edgeBase;        // byte offset of the edge list
+
+   /**
+    * constructor that serves lookups from a buffer holding a snapshot
+    * @param b buffer holding a snapshot, from position 0
+    * @throws IOException if the buffer does not hold a snapshot of this version
+    */
+   private PackedTrie(final ByteBuffer b) throws IOException {
+      buffer = b.order(ByteOrder.LITTLE_ENDIAN);
+      if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+         throw new IOException("not a dictionary snapshot");
+      }
+      if (buffer.getInt(4) != VERSION) {
+         throw new IOException("dictionary snapshot version " + buffer.getInt(4) + ", expected " + VERSION);
+      }
+      size = buffer.getInt(8);
+      edgeBase = HEADER_BYTES + size * NODE_BYTES;
+      if (buffer.capacity() != edgeBase + 4 * buffer.getInt(12)) {
+         throw new IOException("truncated dictionary snapshot");
+      }
+   }
+
+   /**
+    * maps a snapshot file into memory, pages are loaded on demand and shared by every process mapping the same file
+    * @param snapshotFile file name of a snapshot written by write
+    * @return PackedTrie serving lookups from the mapped file
+    * @throws IOException if the file cannot be read or is not a snapshot of this version
+    */
+   public static PackedTrie map(final String snapshotFile) throws IOException {
+      try (FileChannel channel = FileChannel.open(Paths.get(snapshotFile), StandardOpenOption.READ)) {
+         // the mapping stays valid after the channel is closed
+         return new PackedTrie(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+      }
+   }
+
+   /**
+    * determines if a file starts with the snapshot magic number, so that callers can accept either a word list or a snapshot
+    * @param file file name to check
+    * @return true if file looks like a snapshot
+    * @throws IOException if the file cannot be read
+    */
+   public static boolean isSnapshot(final String file) throws IOException {
+      try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+         return in.available() >= 4 && Integer.reverseBytes(in.readInt()) == MAGIC;
+      }
+   }
+
+   /**
+    * copies a dictionary into direct memory, outside the heap. The copy is freed when the returned PackedTrie is
+    * collected, and counts against -XX:MaxDirectMemorySize, which defaults to the maximum heap size
+    * @param source dictionary to copy, such as a minimized Trie, which may be dropped afterwards
+    * @return PackedTrie serving lookups from direct memory
+    */
+   public static PackedTrie offHeap(final Lexicon source) {
+      try {
+         return new PackedTrie(pack(source, true));
+      } catch (final IOException e) {
+         throw new IllegalStateException("packed an unreadable snapshot", e);   // pack always writes a valid header
+      }
+   }
+
+   /**
+    * lays out every node reachable from the root of a dictionary in the snapshot format, on the heap
+    * @param source dictionary to pack
+    * @return heap buffer holding the snapshot, ready to be written from position 0
+    */
+   static ByteBuffer pack(final Lexicon source) {
+      return pack(source, false);
+   }
+
+   /**
+    * lays out every node reachable from the root of a dictionary in the snapshot format, numbering nodes breadth first
+    * and writing nodes shared by several parents only once
+    * @param source dictionary to pack
+    * @param direct true to allocate the buffer in direct memory, false to allocate it on the heap
+    * @return buffer holding the snapshot, ready to be written from position 0
+    */
+   static ByteBuffer pack(final Lexicon source, final boolean direct) {
+      final int[] newId = new int[source.size()];   // handle in the snapshot of each source handle, plus one
+      final int[] order = new int[source.size()];   // source handles in breadth first order, doubles as the queue
+      final int[] masks = new int[source.size()];
+      int count = 0;
+      int edges = 0;
+      order[count++] = source.root();
+      newId[source.root()] = count;
+      for (int k = 0; k < count; k++) {
+         final int node = order[k];
+         int mask = source.isWord(node) ? WORD_FLAG : 0;
+         mask |= Math.min(source.maxLength(node), UNBOUNDED) << HEIGHT_SHIFT;
+         for (int letter = 0; letter < 26; letter++) {
+            final int c = source.child(node, (char) ('a' + letter));
+            if (c == -1) {
+               continue;
+            }
+            mask |= 1 << letter;
+            edges++;
+            if (newId[c] == 0) {
+               order[count++] = c;
+               newId[c] = count;
+            }
+         }
+         masks[k] = mask;
+      }
+
+      final int bytes = HEADER_BYTES + count * NODE_BYTES + 4 * edges;
+      final ByteBuffer b = (direct ? ByteBuffer.allocateDirect(bytes) : ByteBuffer.allocate(bytes)).order(ByteOrder.LITTLE_ENDIAN);
+      b.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(edges);
+      int firstEdge = 0;
+      for (int k = 0; k < count; k++) {
+         b.putInt(masks[k]).putInt(firstEdge);
+         firstEdge += Integer.bitCount(masks[k] & LETTERS);
+      }
+      for (int k = 0; k < count; k++) {
+         for (int letter = 0; letter < 26; letter++) {
+            if ((masks[k] & (1 << letter)) != 0) {
+               b.putInt(newId[source.child(order[k], (char) ('a' + letter))] - 1);
+            }
+         }
+      }
+      b.flip();
+      return b;
+   }
+
+   /**
+    * compiles a dictionary into a snapshot file
+    * @param source dictionary to compile
+    * @param snapshotFile file name to write, replaced if it exists
+    * @throws IOException if the file cannot be written
+    */
+   public static void write(final Lexicon source, final String snapshotFile) throws IOException {
+      final ByteBuffer b = pack(source);
+      try (FileChannel channel = FileChannel.open(Paths.get(snapshotFile), StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+         while (b.hasRemaining()) {
+            channel.write(b);
+         }
+      }
+   }
+
+   /**
+    * accessor method for the letter mask and word flag of a node
+    * @param node handle of the node
+    * @return int mask as laid out in the snapshot
+    */
+   private int mask(final int node) {
+      return buffer.getInt(HEADER_BYTES + node * NODE_BYTES);
+   }
+
+   /**
+    * cursor handle of the root, the empty prefix
+    * @return int handle of the root
+    */
+   public int root() {
+      return 0;
+   }
+
+   /**
+    * moves a cursor one letter down the dictionary, allocates nothing
+    * @param node handle of the current node
+    * @param letter next letter, in either case
+    * @return handle of the child for letter, or -1 if no word continues with it
+    */
+   public int child(final int node, final char letter) {
+      final int l = Trie.index(letter);
+      if (l == -1) {
+         return -1;
+      }
+      final int m = mask(node);
+      final int bit = 1 << l;
+      if ((m & bit) == 0) {
+         return -1;
+      }
+      final int first = buffer.getInt(HEADER_BYTES + node * NODE_BYTES + 4);
+      return buffer.getInt(edgeBase + 4 * (first + Integer.bitCount(m & (bit - 1))));
+   }
+
+   /**
+    * determines if the letters leading to a node form a word
+    * @param node handle of the node
+    * @return true if node marks the end of a word
+    */
+   public boolean isWord(final int node) {
+      return (mask(node) & WORD_FLAG) != 0;
+   }
+
+   /**
+    * determines if any word continues past a node
+    * @param node handle of the node
+    * @return true if node has at least one child
+    */
+   public boolean hasChildren(final int node) {
+      return (mask(node) & LETTERS) != 0;
+   }
+
+   /**
+    * upper bound on the letters that can still be added to a node's prefix, exact below 31 letters
+    * @param node handle of the node
+    * @return number of letters in the longest word below node minus the letters leading to node, or Integer.MAX_VALUE
+    * if that is too long to store
+    */
+   public int maxLength(final int node) {
+      final int h = (mask(node) >>> HEIGHT_SHIFT) & UNBOUNDED;
+      return h == UNBOUNDED ? Integer.MAX_VALUE : h;
+   }
+
+   /**
+    * accessor method for the number of nodes
+    * @return int number of nodes
+    */
+   public int size() {
+      return size;
+   }
+
+   /**
+    * follows key through the dictionary one letter at a time
+    * @param key String to walk
+    * @return handle reached after the last character of key, or -1 if key leaves the dictionary
+    */
+   private int walk(final String key) {
+      int node = root();
+      for (int i = 0; i < key.length() && node != -1; i++) {
+         node = child(node, key.charAt(i));
+      }
+      return node;
+   }
+
+   /**
+    * method to return the list of children in the dictionary for the last character in key
+    * @param key String to find children of
+    * @return ArrayList of the letters that can follow key, empty if key is not in the dictionary
+    */
+   public ArrayList<String> getChildren(final String key) {
+      final ArrayList<String> ch = new ArrayList<String>();
+      final int node = walk(key);
+      if (node == -1) {
+         return ch;
+      }
+      final int m = mask(node);
+      for (int letter = 0; letter < 26; letter++) {
+         if ((m & (1 << letter)) != 0) {
+            ch.add(String.valueOf((char) ('a' + letter)));
+         }
+      }
+      return ch;
+   }
+
+   /**
+    * used for determining if a string exists as a word in the dictionary
+    * @param query String to search for, in either case
+    * @return 2 element array of ints, first element is 1 or 0 if query exists or doesn't exist respectively, second element is # of children
+    * the last node searched has
+    */
+   public int[] search(final String query) {
+      final int node = walk(query);
+      if (node == -1) {
+         return new int[] {0, 0};
+      }
+      return new int[] {isWord(node) ? 1 : 0, Integer.bitCount(mask(node) & LETTERS)};
+   }
+
+   /**
+    * compiles a word list into a snapshot file, minimizing it first so that the file is as small as possible
+    * @param args word list file name, then snapshot file name
+    * @throws IOException if either file cannot be used
+    */
+   public static void main(final String[] args) throws IOException {
+      if (args.length != 2) {
+         System.err.println("Usage: PackedTrie wordFile snapshotFile");
+         System.exit(-1);
+      }
+      write(new Trie(args[0], true), args[1]);
+      final PackedTrie check = map(args[1]);
+      System.out.println("wrote " + check.size() + " nodes to " + args[1]);
+   }
+}
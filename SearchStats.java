@@ -0,0 +1,156 @@
+/*
+Authors (group members): Alex Thomas, T'Avion Rodgers, Anthony Ciero, Jaylin Ollivierre
+Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.edu, aciero2022@my.fit.edu jollivierre2022@my.fit.edu
+Group name: C.A.M.E.R.O.N.
+Course: cse2010
+Section: 12
+Description: counters describing what WordSearch does, shown over JMX as BogglePlayer:type=SearchStats. Counting is off
+             unless -Dboggle.stats=true is given. The MBean is only registered, and so only visible in JConsole, when
+             the flag is given, in which case every BogglePlayer constructor registers it before any board is timed,
+             or when the program calls register itself; Enabled can then be switched over JMX. The switch itself
+             lives in WordSearch, so a search with counting off never loads this class or the JMX machinery; a search
+             reads the switch once, counts into its own fields and adds them here once per start cell, so with
+             counting off it pays a single branch per step
+*/
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+public class SearchStats implements SearchStatsMBean {
+   static final SearchStats STATS = new SearchStats();
+   private static boolean registered = false;
+
+   private volatile boolean resetPerBoard = false;
+   private final LongAdder boards = new LongAdder();
+   private final LongAdder nodesExpanded = new LongAdder();
+   private final LongAdder trieHops = new LongAdder();
+   private final LongAdder deadEnds = new LongAdder();
+   private final LongAdder wordsFound = new LongAdder();
+   private final LongAdder wordsRejected = new LongAdder();
+   private final LongAdder boundPrunes = new LongAdder();
+   private final LongAdder[] startCellNanos = new LongAdder[BoardShape.MAX_CELLS];
+
+   // constructor for the single instance, STATS
+   private SearchStats() {
+      for (int i = 0; i < startCellNanos.length; i++) {
+         startCellNanos[i] = new LongAdder();
+      }
+   }
+
+   /**
+    * registers the counters with the platform MBean server, once; call it outside any timed code, since starting the
+    * platform MBean server takes a noticeable fraction of a second. BogglePlayer calls it when -Dboggle.stats=true
+    * is given, without the flag a program that wants to switch counting on from JConsole calls it at startup
+    */
+   public static synchronized void register() {
+      if (registered) {
+         return;
+      }
+      registered = true;
+      try {
+         ManagementFactory.getPlatformMBeanServer().registerMBean(STATS, new ObjectName("BogglePlayer:type=SearchStats"));
+      } catch (final JMException e) {
+         // another copy of the class, such as one from a different class loader, registered first; counting still works
+         System.err.println("SearchStats: not registered with JMX: " + e.getMessage());
+      }
+   }
+
+   /**
+    * notes that a new board is being searched, resetting the counters first if they are reset per board
+    */
+   void boardStarted() {
+      if (resetPerBoard) {
+         reset();
+      }
+      boards.increment();
+   }
+
+   /**
+    * adds the counts of a search from one start cell
+    * @param cell start cell
+    * @param nanos time spent searching from cell
+    * @param expanded nodes expanded
+    * @param hops trie hops
+    * @param dead dead ends
+    * @param found words found
+    * @param rejected words rejected by the top 20
+    * @param prunes branches cut by the length bound
+    */
+   void record(final int cell, final long nanos, final long expanded, final long hops, final long dead,
+               final long found, final long rejected, final long prunes) {
+      startCellNanos[cell].add(nanos);
+      nodesExpanded.add(expanded);
+      trieHops.add(hops);
+      deadEnds.add(dead);
+      wordsFound.add(found);
+      wordsRejected.add(rejected);
+      boundPrunes.add(prunes);
+   }
+
+   public boolean isEnabled() {
+      return WordSearch.counting();
+   }
+
+   public void setEnabled(final boolean on) {
+      WordSearch.setCounting(on);
+   }
+
+   public boolean isResetPerBoard() {
+      return resetPerBoard;
+   }
+
+   public void setResetPerBoard(final boolean on) {
+      resetPerBoard = on;
+   }
+
+   public long getBoards() {
+      return boards.sum();
+   }
+
+   public long getNodesExpanded() {
+      return nodesExpanded.sum();
+   }
+
+   public long getTrieHops() {
+      return trieHops.sum();
+   }
+
+   public long getDeadEnds() {
+      return deadEnds.sum();
+   }
+
+   public long getWordsFound() {
+      return wordsFound.sum();
+   }
+
+   public long getWordsRejected() {
+      return wordsRejected.sum();
+   }
+
+   public long getBoundPrunes() {
+      return boundPrunes.sum();
+   }
+
+   public long[] getStartCellNanos() {
+      final long[] nanos = new long[startCellNanos.length];
+      for (int i = 0; i < nanos.length; i++) {
+         nanos[i] = startCellNanos[i].sum();
+      }
+      return nanos;
+   }
+
+   public void reset() {
+      boards.reset();
+      nodesExpanded.reset();
+      trieHops.reset();
+      deadEnds.reset();
+      wordsFound.reset();
+      wordsRejected.reset();
+      boundPrunes.reset();
+      for (final LongAdder a : startCellNanos) {
+         a.reset();
+      }
+   }
+}
@@ -0,0 +1,87 @@
+/*
+Authors (group members): Alex Thomas, T'Avion Rodgers, Anthony Ciero, Jaylin Ollivierre
+Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.edu, aciero2022@my.fit.edu jollivierre2022@my.fit.edu
+Group name: C.A.M.E.R.O.N.
+Course: cse2010
+Section: 12
+Description: management interface of SearchStats, shown in JConsole and JMC under BogglePlayer:type=SearchStats
+*/
+
+public interface SearchStatsMBean {
+   /**
+    * determines if searches are counted
+    * @return true if counting is on
+    */
+   boolean isEnabled();
+
+   /**
+    * turns counting on or off, searches already running keep their setting until they finish
+    * @param on true to count searches
+    */
+   void setEnabled(boolean on);
+
+   /**
+    * determines if the counters start from zero for every board, so that they always describe the last board
+    * @return true if counters are reset per board
+    */
+   boolean isResetPerBoard();
+
+   /**
+    * chooses if the counters start from zero for every board
+    * @param on true to reset the counters per board, false to accumulate them
+    */
+   void setResetPerBoard(boolean on);
+
+   /**
+    * number of boards searched since the last reset
+    * @return long boards
+    */
+   long getBoards();
+
+   /**
+    * number of cells added to a path, each one a step of the depth first search that stayed in the dictionary
+    * @return long nodes expanded
+    */
+   long getNodesExpanded();
+
+   /**
+    * number of steps the dictionary cursor took, one per tile tried
+    * @return long trie hops
+    */
+   long getTrieHops();
+
+   /**
+    * number of tiles tried that no word continues with, each one a pruned branch of the search
+    * @return long dead ends
+    */
+   long getDeadEnds();
+
+   /**
+    * number of paths that spelled a dictionary word
+    * @return long words found
+    */
+   long getWordsFound();
+
+   /**
+    * number of words found that the top 20 did not keep, for scoring too low or being a duplicate
+    * @return long words rejected
+    */
+   long getWordsRejected();
+
+   /**
+    * number of paths abandoned because no word the dictionary could still finish on the cells left would make the top 20
+    * @return long bound prunes
+    */
+   long getBoundPrunes();
+
+   /**
+    * nanoseconds spent searching from each start cell, indexed by row * columns + column
+    * @return long array of 64 entries
+    */
+   long[] getStartCellNanos();
+
+   /**
+    * sets every counter back to zero
+    */
+   void reset();
+}
@@ -0,0 +1,262 @@
+/*
+Authors (group members): Alex Thomas, T'Avion Rodgers, Anthony Ciero, Jaylin Ollivierre
+Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.edu, aciero2022@my.fit.edu jollivierre2022@my.fit.edu
+Group name: C.A.M.E.R.O.N.
+Course: cse2010
+Section: 12
+Description: bounded least recently used cache of solved boards for BogglePlayer. Rotating, mirroring or transposing a
+             board moves its cells but keeps every path, so the 8 symmetries of a board share one entry: a board is
+             stored in the orientation whose letters come first in order, with its paths numbered in that orientation,
+             and the paths are turned back into the caller's orientation on every hit
+*/
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class SolveCache {
+   // words of a board in canonical orientation
+   private static class Solved {
+      private final String[] words;
+      private final int[][] paths;   // cells of each word, row * columns + column of the canonical board
+
+      // constructor that takes the words and paths to hold
+      public Solved(final String[] w, final int[][] p) {
+         words = w;
+         paths = p;
+      }
+   }
+
+   private static final int SYMMETRIES = 8;   // bit 0 transposes, then bit 1 reverses the rows and bit 2 the columns
+
+   private final int capacity;
+   private final LinkedHashMap<String, Solved> entries;
+   private long hits = 0;
+   private long misses = 0;
+   private long evictions = 0;
+
+   /**
+    * constructor for an empty cache
+    * @param cap most boards to keep, the least recently used one is dropped to make room for another
+    */
+   public SolveCache(final int cap) {
+      if (cap < 1) {
+         throw new IllegalArgumentException("cache capacity must be positive, got " + cap);
+      }
+      capacity = cap;
+      // access order, so the eldest entry is the least recently used one
+      entries = new LinkedHashMap<String, Solved>(16, 0.75f, true) {
+         @Override
+         protected boolean removeEldestEntry(final Map.Entry<String, Solved> eldest) {
+            if (size() > capacity) {
+               evictions++;
+               return true;
+            }
+            return false;
+         }
+      };
+   }
+
+   /**
+    * cell of the canonical board that a cell of the caller's board is moved to
+    * @param t symmetry, 0 through SYMMETRIES - 1
+    * @param rows number of rows of the caller's board
+    * @param cols number of columns of the caller's board
+    * @param r row on the caller's board
+    * @param c column on the caller's board
+    * @return row * columns + column on the board turned by t
+    */
+   static int toCanonical(final int t, final int rows, final int cols, final int r, final int c) {
+      final boolean transpose = (t & 1) != 0;
+      final int tRows = transpose ? cols : rows;
+      final int tCols = transpose ? rows : cols;
+      int tr = transpose ? c : r;
+      int tc = transpose ? r : c;
+      if ((t & 2) != 0) {
+         tr = tRows - 1 - tr;
+      }
+      if ((t & 4) != 0) {
+         tc = tCols - 1 - tc;
+      }
+      return tr * tCols + tc;
+   }
+
+   /**
+    * cell of the caller's board that a cell of the canonical board came from, undoes toCanonical
+    * @param t symmetry, 0 through SYMMETRIES - 1
+    * @param rows number of rows of the caller's board
+    * @param cols number of columns of the caller's board
+    * @param cell row * columns + column on the board turned by t
+    * @return row * columns + column on the caller's board
+    */
+   static int fromCanonical(final int t, final int rows, final int cols, final int cell) {
+      final boolean transpose = (t & 1) != 0;
+      final int tRows = transpose ? cols : rows;
+      final int tCols = transpose ? rows : cols;
+      int tr = cell / tCols;
+      int tc = cell % tCols;
+      if ((t & 4) != 0) {
+         tc = tCols - 1 - tc;
+      }
+      if ((t & 2) != 0) {
+         tr = tRows - 1 - tr;
+      }
+      return transpose ? tc * cols + tr : tr * cols + tc;
+   }
+
+   /**
+    * writes the letters of a board turned by a symmetry, led by its number of rows so that a board and its transpose
+    * only match when they have the same shape
+    * @param board 2d array representing the boggle board
+    * @param t symmetry, 0 through SYMMETRIES - 1
+    * @param key array of 1 + rows * columns chars to fill
+    */
+   private static void letters(final char[][] board, final int t, final char[] key) {
+      final int rows = board.length;
+      final int cols = board[0].length;
+      key[0] = (char) ((t & 1) != 0 ? cols : rows);
+      for (int r = 0; r < rows; r++) {
+         for (int c = 0; c < cols; c++) {
+            key[1 + toCanonical(t, rows, cols, r, c)] = board[r][c];
+         }
+      }
+   }
+
+   /**
+    * finds the symmetry that turns a board into its canonical orientation, the one whose letters come first in order
+    * @param board 2d array representing the boggle board
+    * @return symmetry, 0 through SYMMETRIES - 1
+    */
+   static int canonicalSymmetry(final char[][] board) {
+      final int cells = board.length * board[0].length;
+      final char[] best = new char[1 + cells];
+      final char[] candidate = new char[1 + cells];
+      int bestT = 0;
+      letters(board, 0, best);
+      for (int t = 1; t < SYMMETRIES; t++) {
+         letters(board, t, candidate);
+         if (Arrays.compare(candidate, best) < 0) {
+            System.arraycopy(candidate, 0, best, 0, candidate.length);
+            bestT = t;
+         }
+      }
+      return bestT;
+   }
+
+   /**
+    * key of the entry a board and all its symmetries share
+    * @param board 2d array representing the boggle board
+    * @param t symmetry that makes board canonical
+    * @return String of the canonical board's rows, then its letters
+    */
+   private static String key(final char[][] board, final int t) {
+      final char[] key = new char[1 + board.length * board[0].length];
+      letters(board, t, key);
+      return new String(key);
+   }
+
+   /**
+    * looks up a board or any of its symmetries
+    * @param board 2d array representing the boggle board
+    * @return new Words with paths on board, in the order they were stored, or null if no symmetry of board is cached
+    */
+   public Word[] get(final char[][] board) {
+      final int rows = board.length;
+      final int cols = board[0].length;
+      final int t = canonicalSymmetry(board);
+      final String key = key(board, t);
+      final Solved s;
+      synchronized (this) {
+         s = entries.get(key);
+         if (s == null) {
+            misses++;
+            return null;
+         }
+         hits++;
+      }
+      final Word[] words = new Word[s.words.length];
+      for (int i = 0; i < words.length; i++) {
+         words[i] = new Word(s.words[i]);
+         for (final int cell : s.paths[i]) {
+            final int own = fromCanonical(t, rows, cols, cell);
+            words[i].addLetterRowAndCol(own / cols, own % cols);
+         }
+      }
+      return words;
+   }
+
+   /**
+    * stores the words of a board, replacing whatever was stored for it or any of its symmetries
+    * @param board 2d array representing the boggle board
+    * @param words words found on board, they are copied so the caller may change them afterwards
+    */
+   public void put(final char[][] board, final Word[] words) {
+      final int rows = board.length;
+      final int cols = board[0].length;
+      final int t = canonicalSymmetry(board);
+      final String[] w = new String[words.length];
+      final int[][] p = new int[words.length][];
+      for (int i = 0; i < words.length; i++) {
+         w[i] = words[i].getWord();
+         p[i] = new int[words[i].getPathLength()];
+         for (int j = 0; j < p[i].length; j++) {
+            p[i][j] = toCanonical(t, rows, cols, words[i].getLetterRow(j), words[i].getLetterCol(j));
+         }
+      }
+      final Solved s = new Solved(w, p);
+      final String key = key(board, t);
+      synchronized (this) {
+         entries.put(key, s);
+      }
+   }
+
+   /**
+    * accessor method for the number of lookups that found a board
+    * @return long hits
+    */
+   public synchronized long hits() {
+      return hits;
+   }
+
+   /**
+    * accessor method for the number of lookups that found nothing
+    * @return long misses
+    */
+   public synchronized long misses() {
+      return misses;
+   }
+
+   /**
+    * accessor method for the number of boards dropped to make room
+    * @return long evictions
+    */
+   public synchronized long evictions() {
+      return evictions;
+   }
+
+   /**
+    * accessor method for the number of boards held
+    * @return int number of boards
+    */
+   public synchronized int size() {
+      return entries.size();
+   }
+
+   /**
+    * accessor method for the most boards held at once
+    * @return int capacity
+    */
+   public int capacity() {
+      return capacity;
+   }
+
+   /**
+    * drops every board and sets the statistics back to zero
+    */
+   public synchronized void clear() {
+      entries.clear();
+      hits = 0;
+      misses = 0;
+      evictions = 0;
+   }
+}
@@ -0,0 +1,202 @@
+/*
+Authors (group members): Alex Thomas, T'Avion Rodgers, Anthony Ciero, Jaylin Ollivierre
+Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.edu, aciero2022@my.fit.edu jollivierre2022@my.fit.edu
+Group name: C.A.M.E.R.O.N.
+Course: cse2010
+Section: 12
+Description: a board that is solved once and then kept solved while its tiles are changed one at a time. Every path that
+             spells a word is stored with the mask of its cells. Changing a tile drops the paths through its cell and
+             searches again only for paths through it, anchored on the cell: the path is first grown backwards from
+             the cell toward a first letter, walking a trie of reversed word prefixes, and each start it reaches is
+             then grown forwards from the cell through the dictionary, so no path that misses the cell is ever tried.
+             The top 20 is collected from the stored paths by a TopWords whenever it is asked for, which turns most of
+             them away on their score alone. Not safe for use by several threads at once
+*/
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class SolveSession {
+   // a path that spells a word
+   private static class Found {
+      private final char[] word;  // letters of the word, two for each Q
+      private final int[] path;   // cells of the path, row * columns + column
+      private final long mask;    // bit i set for each cell i on the path
+
+      // constructor that takes the word, its path and the path's cells as a mask
+      public Found(final char[] w, final int[] p, final long m) {
+         word = w;
+         path = p;
+         mask = m;
+      }
+   }
+
+   private static final int TOP = 20;   // words returned by getWords, as for BogglePlayer.getWords
+
+   private final Lexicon dictionary;
+   private final Lexicon prefixes;                                 // reversed prefixes of the words of dictionary
+   private final BoardShape shape;
+   private final int cols;
+   private final char[] tiles;                                     // letter on each cell
+   private final int[] path;                                       // cells of the current path
+   private final int[] back;                                       // cells of a path grown backwards, the anchor first
+   private final TopWords top;                                     // collector reused by every getWords
+   private final char[] letters;                                   // letters of the current path, two for each Q
+   private final ArrayList<Found> found = new ArrayList<Found>();  // every path on the board that spells a word
+
+   /**
+    * constructor that solves a board in full
+    * @param d dictionary to search with
+    * @param p trie of the reversed prefixes of the words of d, see Trie.reversedPrefixes
+    * @param board 2d array representing the boggle board, any rectangle of up to BoardShape.MAX_CELLS cells; it is
+    *              copied, so later changes go through setTile
+    */
+   SolveSession(final Lexicon d, final Lexicon p, final char[][] board) {
+      dictionary = d;
+      prefixes = p;
+      shape = BoardShape.of(board);
+      cols = shape.cols();
+      tiles = new char[shape.cells()];
+      for (int r = 0; r < board.length; r++) {
+         for (int c = 0; c < cols; c++) {
+            tiles[r * cols + c] = board[r][c];
+         }
+      }
+      path = new int[tiles.length];
+      back = new int[tiles.length];
+      letters = new char[2 * tiles.length];
+      top = new TopWords(TOP, 2 * tiles.length);
+      for (int cell = 0; cell < tiles.length; cell++) {
+         expand(cell, dictionary.root(), 0, 0, 0L);
+      }
+   }
+
+   /**
+    * changes one tile and updates the stored paths, searching only for paths through the changed cell
+    * @param row row of the tile
+    * @param col column of the tile
+    * @param ch new letter, 'Q' standing for QU as on any board
+    */
+   public void setTile(final int row, final int col, final char ch) {
+      if (row < 0 || row >= shape.rows() || col < 0 || col >= cols) {
+         throw new IndexOutOfBoundsException("no tile at " + row + ", " + col + " on a " + shape.rows() + "x" + cols + " board");
+      }
+      final int cell = row * cols + col;
+      if (tiles[cell] == ch) {
+         return;
+      }
+      tiles[cell] = ch;
+      found.removeIf(f -> (f.mask & (1L << cell)) != 0);
+      backward(cell, prefixes.root(), 0, 0L);
+   }
+
+   /**
+    * accessor method for a tile
+    * @param row row of the tile
+    * @param col column of the tile
+    * @return letter on the tile
+    */
+   public char getTile(final int row, final int col) {
+      return tiles[row * cols + col];
+   }
+
+   /**
+    * accessor method for the number of stored paths, counting every path of a word that can be spelled several ways
+    * @return int number of paths that spell a word
+    */
+   public int pathCount() {
+      return found.size();
+   }
+
+   /**
+    * method that returns an array of the longest words on the board as it is now, the same score as
+    * BogglePlayer.getWords would find, with ties between words of equal length broken by the order paths were stored
+    * @return the TOP highest scoring words, each once, lowest score first
+    */
+   public Word[] getWords() {
+      top.clear();
+      for (final Found f : found) {
+         if (top.accepts(TopWords.score(f.word.length))) {
+            top.offer(f.word, f.word.length, f.path, f.path.length);
+         }
+      }
+      return top.toWords(cols);
+   }
+
+   /**
+    * adds one cell to the front of a path that ends on the changed cell, and when the path's letters start a word,
+    * searches forwards from the changed cell for every word that starts with them
+    * @param cell cell to add
+    * @param parent cursor in prefixes for the letters of the path so far, read backwards
+    * @param depth number of cells on the path so far
+    * @param visited mask of the cells on the path so far, bit i set for cell i
+    */
+   private void backward(final int cell, final int parent, final int depth, final long visited) {
+      final char tile = tiles[cell];
+      // read backwards, a Q tile spells UQ
+      int node = prefixes.child(parent, tile == 'Q' || tile == 'q' ? 'u' : tile);
+      if (node != -1 && (tile == 'Q' || tile == 'q')) {
+         node = prefixes.child(node, 'q');
+      }
+      if (node == -1) {
+         return;
+      }
+      back[depth] = cell;
+      final long onPath = visited | (1L << cell);
+      if (prefixes.isWord(node)) {
+         // cell can start a word, so the path is laid out forwards and walked through the dictionary up to the anchor
+         int forward = dictionary.root();
+         int length = 0;
+         for (int i = 0; i < depth; i++) {
+            final int c = back[depth - i];
+            path[i] = c;
+            letters[length++] = tiles[c];
+            if (tiles[c] == 'Q' || tiles[c] == 'q') {
+               letters[length++] = tiles[c] == 'Q' ? 'U' : 'u';
+            }
+            forward = dictionary.tile(forward, tiles[c]);
+         }
+         // the anchor is added by expand, which then continues to every word through it
+         expand(back[0], forward, depth, length, onPath & ~(1L << back[0]));
+      }
+      if (prefixes.hasChildren(node)) {
+         long next = shape.neighbors(cell) & ~onPath;   // unvisited neighbors
+         while (next != 0) {
+            backward(Long.numberOfTrailingZeros(next), node, depth + 1, onPath);
+            next &= next - 1;
+         }
+      }
+   }
+
+   /**
+    * adds one cell to the current path, stores the path if it spells a word, then tries every unvisited neighbor
+    * @param cell cell to add
+    * @param parent trie cursor for the letters of the path so far
+    * @param depth number of cells on the path so far
+    * @param length number of letters on the path so far
+    * @param visited mask of the cells on the path so far, bit i set for cell i
+    */
+   private void expand(final int cell, final int parent, final int depth, int length, final long visited) {
+      final char tile = tiles[cell];
+      final int node = dictionary.tile(parent, tile);   // a Q tile takes the QU edge, two levels in one step
+      if (node == -1) {
+         return;
+      }
+      path[depth] = cell;
+      letters[length++] = tile;
+      if (tile == 'Q' || tile == 'q') {
+         letters[length++] = tile == 'Q' ? 'U' : 'u';
+      }
+      final long onPath = visited | (1L << cell);
+      if (dictionary.isWord(node)) {
+         found.add(new Found(Arrays.copyOf(letters, length), Arrays.copyOf(path, depth + 1), onPath));
+      }
+      if (dictionary.hasChildren(node)) {
+         long next = shape.neighbors(cell) & ~onPath;   // unvisited neighbors
+         while (next != 0) {
+            expand(Long.numberOfTrailingZeros(next), node, depth + 1, length, onPath);
+            next &= next - 1;
+         }
+      }
+   }
+}
@@ -0,0 +1,304 @@
+/*
+Authors (group members): Alex Thomas, T'Avion Rodgers, Anthony Ciero, Jaylin Ollivierre
+Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.edu, aciero2022@my.fit.edu jollivierre2022@my.fit.edu
+Group name: C.A.M.E.R.O.N.
+Course: cse2010
+Section: 12
+Description: bounded collector of the highest scoring words found on a board. Candidates are ranked by the points
+             EvalBogglePlayer gives them, (length - 2)^2, kept in a min heap of preallocated slots, and a full collector
+             rejects a candidate with a single comparison before any of its letters are looked at. Duplicates are
+             found in constant expected time through a small open addressed table of the kept words, keyed by packing 5
+             bits per letter into a long, so no String or Word exists until toWords
+*/
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+class TopWords {
+   private final int capacity;
+   private final int[] heap;         // slot numbers ordered as a min heap on score, heap[0] has the lowest score
+   private final int[] scores;       // score of the word in each slot
+   private final long[] keys;        // packed letters of the word in each slot
+   private final char[][] letters;   // letters of the word in each slot
+   private final int[] lengths;      // number of letters of the word in each slot
+   private final int[][] paths;      // cells of the word in each slot
+   private final int[] pathLengths;  // number of cells of the word in each slot
+   private final int[] table;        // linear probing table of slot + 1 for each kept word, 0 for an empty entry
+   private final int tableMask;      // table length minus one, the length is a power of two
+   private int count = 0;
+
+   /**
+    * constructor for a TopWords that keeps at most cap words of at most maxLength letters each
+    * @param cap number of words to keep
+    * @param maxLength most letters, and so also most cells, of a word that can be offered
+    */
+   TopWords(final int cap, final int maxLength) {
+      capacity = cap;
+      heap = new int[cap];
+      scores = new int[cap];
+      keys = new long[cap];
+      letters = new char[cap][maxLength];
+      lengths = new int[cap];
+      paths = new int[cap][maxLength];
+      pathLengths = new int[cap];
+      // at most half full, so probe sequences stay short
+      table = new int[Integer.highestOneBit(Math.max(cap, 2) * 4 - 1)];
+      tableMask = table.length - 1;
+   }
+
+   /**
+    * points of a valid word, as computed by EvalBogglePlayer
+    * @param length number of letters in the word, counting the U of QU
+    * @return int points
+    */
+   static int score(final int length) {
+      return (length - 2) * (length - 2);
+   }
+
+   /**
+    * determines if a word with some score could still be kept, meant to be checked before anything else is done with it
+    * @param score points of the candidate
+    * @return true if the collector has room, or score beats the lowest kept score
+    */
+   boolean accepts(final int score) {
+      return count < capacity || score > scores[heap[0]];
+   }
+
+   /**
+    * lowest score that is kept, 0 until the collector is full
+    * @return int lowest kept score once full
+    */
+   int threshold() {
+      return count < capacity ? 0 : scores[heap[0]];
+   }
+
+   /**
+    * accessor method for the number of kept words
+    * @return int number of kept words
+    */
+   int size() {
+      return count;
+   }
+
+   /**
+    * forgets every kept word so that the collector can be reused for another board
+    */
+   void clear() {
+      count = 0;
+      Arrays.fill(table, 0);
+   }
+
+   /**
+    * keeps a word if it scores high enough and is not already kept, evicting the lowest scoring word when full. A word
+    * that was evicted can never come back, since the lowest kept score only goes up
+    * @param word letters of the word
+    * @param length number of letters in word
+    * @param path cells of the word
+    * @param pathLength number of cells in path
+    * @return true if the word was kept
+    */
+   boolean offer(final char[] word, final int length, final int[] path, final int pathLength) {
+      final int score = score(length);
+      if (!accepts(score)) {
+         return false;
+      }
+      final long key = key(word, length);
+      int entry = find(key, word, length);
+      if (table[entry] != 0) {
+         return false;   // already kept
+      }
+      final int slot;
+      if (count < capacity) {
+         slot = count;
+         heap[count] = slot;
+         count++;
+         put(slot, score, key, word, length, path, pathLength);
+         siftUp(count - 1);
+      } else {
+         slot = heap[0];   // overwrites the lowest scoring word
+         remove(find(keys[slot], letters[slot], lengths[slot]));
+         entry = find(key, word, length);   // removing may have moved the empty entry the word belongs in
+         put(slot, score, key, word, length, path, pathLength);
+         siftDown(0);
+      }
+      table[entry] = slot + 1;
+      return true;
+   }
+
+   /**
+    * offers every word kept by another collector to this one
+    * @param other collector to merge in, it is not modified
+    */
+   void addAll(final TopWords other) {
+      for (int slot = 0; slot < other.count; slot++) {
+         offer(other.letters[slot], other.lengths[slot], other.paths[slot], other.pathLengths[slot]);
+      }
+   }
+
+   /**
+    * first table entry of a key's probe sequence
+    * @param key packed letters of a word
+    * @return index in table
+    */
+   private int home(final long key) {
+      return (int) ((key * 0x9E3779B97F4A7C15L) >>> 40) & tableMask;
+   }
+
+   /**
+    * looks a word up in the table
+    * @param key packed letters of the word
+    * @param word letters of the word
+    * @param length number of letters in word
+    * @return index of the entry holding the word, or of the empty entry where its probe sequence ends
+    */
+   private int find(final long key, final char[] word, final int length) {
+      int i = home(key);
+      while (table[i] != 0) {
+         final int slot = table[i] - 1;
+         if (keys[slot] == key && lengths[slot] == length && sameLetters(letters[slot], word, length)) {
+            return i;
+         }
+         i = (i + 1) & tableMask;
+      }
+      return i;
+   }
+
+   /**
+    * empties a table entry, moving later entries of the same probe run back so that every kept word stays reachable
+    * @param i index of the entry to empty
+    */
+   private void remove(int i) {
+      int j = i;
+      while (true) {
+         j = (j + 1) & tableMask;
+         if (table[j] == 0) {
+            break;
+         }
+         final int k = home(keys[table[j] - 1]);
+         // the entry at j stays if its home lies cyclically in (i, j], since the gap at i is not on its probe sequence
+         final boolean stays = i <= j ? (i < k && k <= j) : (i < k || k <= j);
+         if (!stays) {
+            table[i] = table[j];
+            i = j;
+         }
+      }
+      table[i] = 0;
+   }
+
+   /**
+    * builds a Word for every kept word, lowest score first
+    * @param cols number of columns of the board, used to turn cells into rows and columns
+    * @return array of kept words, ordered from lowest to highest score
+    */
+   Word[] toWords(final int cols) {
+      final Word[] words = new Word[count];
+      final int[] order = new int[count];
+      for (int i = 0; i < count; i++) {
+         order[i] = i;
+      }
+      // insertion sort of at most capacity slots by score
+      for (int i = 1; i < count; i++) {
+         final int slot = order[i];
+         int j = i - 1;
+         while (j >= 0 && scores[order[j]] > scores[slot]) {
+            order[j + 1] = order[j];
+            j--;
+         }
+         order[j + 1] = slot;
+      }
+      for (int i = 0; i < count; i++) {
+         final int slot = order[i];
+         final ArrayList<Location> locs = new ArrayList<Location>(pathLengths[slot]);
+         for (int j = 0; j < pathLengths[slot]; j++) {
+            locs.add(new Location(paths[slot][j] / cols, paths[slot][j] % cols));
+         }
+         final Word w = new Word(new String(letters[slot], 0, lengths[slot]));
+         w.setPath(locs);
+         words[i] = w;
+      }
+      return words;
+   }
+
+   /**
+    * packs up to 12 letters into a long, 5 bits each; longer words share keys, which sameLetters then tells apart
+    * @param word letters to pack
+    * @param length number of letters
+    * @return long key
+    */
+   private static long key(final char[] word, final int length) {
+      long k = length;
+      for (int i = 0; i < length; i++) {
+         k = (k << 5) | (Trie.index(word[i]) + 1);
+      }
+      return k;
+   }
+
+   /**
+    * compares the first length letters of two words
+    * @param a first word
+    * @param b second word
+    * @param length number of letters to compare
+    * @return true if the letters are equal
+    */
+   private static boolean sameLetters(final char[] a, final char[] b, final int length) {
+      for (int i = 0; i < length; i++) {
+         if (a[i] != b[i]) {
+            return false;
+         }
+      }
+      return true;
+   }
+
+   /**
+    * copies a word into a slot
+    * @param slot slot to overwrite
+    * @param score points of the word
+    * @param key packed letters of the word
+    * @param word letters of the word
+    * @param length number of letters in word
+    * @param path cells of the word
+    * @param pathLength number of cells in path
+    */
+   private void put(final int slot, final int score, final long key, final char[] word, final int length,
+                    final int[] path, final int pathLength) {
+      scores[slot] = score;
+      keys[slot] = key;
+      System.arraycopy(word, 0, letters[slot], 0, length);
+      lengths[slot] = length;
+      System.arraycopy(path, 0, paths[slot], 0, pathLength);
+      pathLengths[slot] = pathLength;
+   }
+
+   /**
+    * moves the heap entry at i up until its parent scores no higher
+    * @param i index in heap
+    */
+   private void siftUp(int i) {
+      final int slot = heap[i];
+      while (i > 0 && scores[heap[(i - 1) / 2]] > scores[slot]) {
+         heap[i] = heap[(i - 1) / 2];
+         i = (i - 1) / 2;
+      }
+      heap[i] = slot;
+   }
+
+   /**
+    * moves the heap entry at i down until both children score no lower
+    * @param i index in heap
+    */
+   private void siftDown(int i) {
+      final int slot = heap[i];
+      while (2 * i + 1 < count) {
+         int child = 2 * i + 1;
+         if (child + 1 < count && scores[heap[child + 1]] < scores[heap[child]]) {
+            child++;
+         }
+         if (scores[heap[child]] >= scores[slot]) {
+            break;
+         }
+         heap[i] = heap[child];
+         i = child;
+      }
+      heap[i] = slot;
+   }
+}
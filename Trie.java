@@ -7,41 +7,65 @@ Section: 12
 Description: a linked structure used to store words based on a provided list of valid words that can be quickly searched through
 */
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
-public class Trie {
-   // class to hold an element, word flag, and parent/child pointers
-   private class Node {
-      private String data;
-      private Node parent;
+public class Trie implements Lexicon {
+   // class to hold a word flag and child pointers, a node's letter is implied by its slot in its parent
+   private static class Node {
+      private int id;            // cursor handle of this node, its index in the nodes table
       private boolean isWord;
-      private ArrayList<Node> children;
+      private int mask;          // bit i is set when there is a child for the letter 'a' + i
+      private int height;        // letters on the longest path from this node to the end of a word
+      private Node[] children;   // children packed in letter order, one slot per set bit of mask
 
-      // constructor that takes a string to set to data field, isWord is false by default
-      public Node(final String d) {
-         data = d;
+      // constructor that takes a handle to set to id, isWord is false by default
+      public Node(final int i) {
+         id = i;
          isWord = false;
-         children = new ArrayList<Node>();
+         mask = 0;
+         children = NO_CHILDREN;
       }
 
       /**
-       * appends node c to this node's children list, sets c's parent pointer to this node
+       * inserts node c into this node's children array at the slot for its letter
+       * @param letter index of c's letter, 0 for 'a' through 25 for 'z'
        * @param c node to append as child
        */
-      public void addChild(final Node c) {
-         children.add(c);
-         c.setParent(this);
+      public void addChild(final int letter, final Node c) {
+         final int bit = 1 << letter;
+         final int slot = Integer.bitCount(mask & (bit - 1));  // number of children with a smaller letter
+         final Node[] grown = new Node[children.length + 1];
+         System.arraycopy(children, 0, grown, 0, slot);
+         System.arraycopy(children, slot, grown, slot + 1, children.length - slot);
+         grown[slot] = c;
+         children = grown;
+         mask |= bit;
       }
 
       /**
-       * accessor method for data field
-       * @return string data
+       * constant time lookup of the child for a letter, allocates nothing
+       * @param letter index of the letter, 0 for 'a' through 25 for 'z'
+       * @return the child Node for letter, or null if there is none
        */
-      public String getData() {
-         return data;
+      public Node getChild(final int letter) {
+         final int bit = 1 << letter;
+         if ((mask & bit) == 0) {
+            return null;
+         }
+         return children[Integer.bitCount(mask & (bit - 1))];
       }
 
       /**
@@ -49,27 +73,29 @@ public class Trie {
        * @return ArrayList of Strings containing all the data in the children list
        */
       public ArrayList<String> getChildren() {
-         final ArrayList<String> ch = new ArrayList<String>();
-         for (final Node c : children) {
-            ch.add(c.getData());
+         final ArrayList<String> ch = new ArrayList<String>(children.length);
+         for (int letter = 0; letter < 26; letter++) {
+            if ((mask & (1 << letter)) != 0) {
+               ch.add(String.valueOf((char) ('a' + letter)));
+            }
          }
          return ch;
       }
 
       /**
-       * accessor method for isWord
-       * @return boolean isWord
+       * accessor method for the number of children
+       * @return int number of children
        */
-      public boolean isWord() {
-         return isWord;
+      public int childCount() {
+         return children.length;
       }
 
       /**
-       * setter method for parent pointer
-       * @param p Node to set parent pointer to
+       * accessor method for isWord
+       * @return boolean isWord
        */
-      private void setParent(final Node p) {
-         parent = p;
+      public boolean isWord() {
+         return isWord;
       }
 
       /**
@@ -81,25 +107,74 @@ public class Trie {
       }
 
       /**
-       * Overridden equals method used to compare Nodes to other Nodes and Strings
-       * @param o object to test equality to
-       * @return true if this is equal to o, false otherwise
+       * hash of the word flag, letters and child identities, matches for any two nodes with equal signatures
+       * @return int hash code
        */
+      private int signatureHash() {
+         int h = (isWord ? 31 : 17) * 31 + mask;
+         for (final Node c : children) {
+            h = h * 31 + System.identityHashCode(c);
+         }
+         return h;
+      }
+
+      /**
+       * determines if two nodes root identical subtrees, assuming their children are already minimized so that equal
+       * subtrees are the same objects
+       * @param n Node to compare to
+       * @return true if this and n have the same word flag, letters and child objects
+       */
+      private boolean sameSignature(final Node n) {
+         // height follows from the children, so nodes with the same children already have the same height
+         if (isWord != n.isWord || mask != n.mask) {
+            return false;
+         }
+         for (int i = 0; i < children.length; i++) {
+            if (children[i] != n.children[i]) {
+               return false;
+            }
+         }
+         return true;
+      }
+   }
+
+   // key wrapping a Node so that a HashMap can find an existing node with the same signature
+   private static class Signature {
+      private final Node node;
+      private final int hash;
+
+      // constructor that takes the node to represent, its children must already be minimized
+      public Signature(final Node n) {
+         node = n;
+         hash = n.signatureHash();
+      }
+
+      @Override
+      public int hashCode() {
+         return hash;
+      }
+
       @Override
       public boolean equals(final Object o) {
-         if (o instanceof Node) {
-            final Node n = (Node) o;
-            return data.equals(n.getData());
-         }
-         if (o instanceof String) {
-            final String s = (String) o;
-            return data.equals(s);
+         if (o instanceof Signature) {
+            final Signature s = (Signature) o;
+            return hash == s.hash && node.sameSignature(s.node);
          }
          return false;
       }
    }
 
+   // shared by every leaf so that nodes without children do not each allocate an empty array
+   private static final Node[] NO_CHILDREN = new Node[0];
+   private static final int MIN_LENGTH = 3;   // minimum length required to score points
+   public static final int DEFAULT_MAX_LENGTH = 9;   // statistically unlikely to find longer words on a 4x4 board
+   public static final int LONGEST_WORD = 16;        // longest word WordValidator gives points for
+   private static final int UNNUMBERED = Integer.MAX_VALUE;   // id of a node built off the table, until renumber
+
    private Node head;
+   private Node[] nodes = new Node[1024];   // every node indexed by its id, resolves cursor handles
+   private int size = 0;                    // number of nodes in the trie, including head
+   private final int maxLength;             // longest word loaded from a word list
 
    /**
     * constructor for building a new Trie from a list of words
@@ -107,112 +182,478 @@ public class Trie {
     * @throws IOException if file is not found
     */
    public Trie(final String wordList) throws IOException {
-      final BufferedReader bfr = new BufferedReader(new FileReader(wordList));   // used to read through file of words
-      head = new Node(""); // head holds no data
-      String word = bfr.readLine().toLowerCase();
-      while (word != null) {  // while there are words in the list
-         // only stores words that are at least 3 letters long: minimum length required to score points
-         // only stores words that are at most 9 letters long: statistically unlikely to find longer words on the board
-         if (word.length() < 3 || word.length() > 9) {
-            word = bfr.readLine();
+      this(wordList, false);
+   }
+
+   /**
+    * constructor for building a new Trie from a list of words, optionally minimized into a directed acyclic word graph
+    * @param wordList filename of list of words to use
+    * @param minimize true to merge identical suffix subtrees after building, which shrinks the trie by a large factor
+    *                 without changing any search results
+    * @throws IOException if file is not found
+    */
+   public Trie(final String wordList, final boolean minimize) throws IOException {
+      this(wordList, minimize, null);
+   }
+
+   /**
+    * constructor for building a new Trie from the words of a list that a set of dice can spell. The list is memory
+    * mapped and read a byte at a time, each line's letters are folded into one reused array and inserted from there,
+    * so no String is created per line; lines end with '\n', '\r' or both, and are read as ASCII
+    * @param wordList filename of list of words to use
+    * @param minimize true to merge identical suffix subtrees after building
+    * @param dice filter that drops every word no roll of its dice could spell, or null to keep every word
+    * @throws IOException if file is not found
+    */
+   public Trie(final String wordList, final boolean minimize, final DiceFilter dice) throws IOException {
+      this(wordList, minimize, dice, DEFAULT_MAX_LENGTH);
+   }
+
+   /**
+    * constructor for building a new Trie from the words of a list that are at most some number of letters long
+    * @param wordList filename of list of words to use
+    * @param minimize true to merge identical suffix subtrees after building
+    * @param dice filter that drops every word no roll of its dice could spell, or null to keep every word
+    * @param longest longest word to keep, MIN_LENGTH to LONGEST_WORD, such as maxLengthFor(5, 5)
+    * @throws IOException if file is not found
+    */
+   public Trie(final String wordList, final boolean minimize, final DiceFilter dice, final int longest)
+         throws IOException {
+      maxLength = checkLength(longest);
+      head = newNode(); // head holds no letter
+      try (FileChannel channel = FileChannel.open(Paths.get(wordList), StandardOpenOption.READ)) {
+         final MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+         load(bytes, 0, bytes.limit(), head, 0, dice, true);
+      }
+      if (minimize) {
+         minimize();
+      }
+   }
+
+   /**
+    * constructor for building a new Trie on several threads, one subtree of head per first letter. The lines of the
+    * list are grouped by their first letter in one pass, each group is inserted under its own node by its own task,
+    * and the subtrees are then attached under head and numbered. Sorted input gives each task a single range of the
+    * file, but any order works. Finds the same words as the single threaded constructor, under different handles
+    * @param wordList filename of list of words to use
+    * @param minimize true to merge identical suffix subtrees after building
+    * @param dice filter that drops every word no roll of its dice could spell, or null to keep every word; each task
+    *             checks words with its own copy
+    * @param pool pool to build on, such as ForkJoinPool.commonPool()
+    * @throws IOException if file is not found
+    */
+   public Trie(final String wordList, final boolean minimize, final DiceFilter dice, final ForkJoinPool pool)
+         throws IOException {
+      this(wordList, minimize, dice, DEFAULT_MAX_LENGTH, pool);
+   }
+
+   /**
+    * constructor for building a new Trie on several threads from the words of a list that are at most some number of
+    * letters long
+    * @param wordList filename of list of words to use
+    * @param minimize true to merge identical suffix subtrees after building
+    * @param dice filter that drops every word no roll of its dice could spell, or null to keep every word
+    * @param longest longest word to keep, MIN_LENGTH to LONGEST_WORD, such as maxLengthFor(5, 5)
+    * @param pool pool to build on, such as ForkJoinPool.commonPool()
+    * @throws IOException if file is not found
+    */
+   public Trie(final String wordList, final boolean minimize, final DiceFilter dice, final int longest,
+               final ForkJoinPool pool) throws IOException {
+      maxLength = checkLength(longest);
+      head = new Node(UNNUMBERED);
+      try (FileChannel channel = FileChannel.open(Paths.get(wordList), StandardOpenOption.READ)) {
+         final MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+         final ArrayList<ArrayList<int[]>> ranges = firstLetterRanges(bytes);
+         final ArrayList<Callable<Node>> tasks = new ArrayList<Callable<Node>>();
+         for (int letter = 0; letter < 26; letter++) {
+            final ArrayList<int[]> group = ranges.get(letter);
+            tasks.add(() -> {
+               final Node sub = new Node(UNNUMBERED);
+               final DiceFilter own = dice == null ? null : new DiceFilter(dice);
+               for (final int[] range : group) {
+                  load(bytes, range[0], range[1], sub, 1, own, false);
+               }
+               return sub;
+            });
+         }
+         final List<Future<Node>> subtrees = pool.invokeAll(tasks);
+         for (int letter = 0; letter < 26; letter++) {
+            final Node sub = subtrees.get(letter).get();
+            // a letter without a word keeps no node
+            if (sub.childCount() > 0 || sub.isWord()) {
+               head.addChild(letter, sub);
+               head.height = Math.max(head.height, sub.height + 1);
+            }
+         }
+      } catch (final InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new IOException("interrupted while building the trie", e);
+      } catch (final ExecutionException e) {
+         throw new IOException("building a subtree failed", e.getCause());
+      }
+      nodes = new Node[1024];
+      size = 0;
+      renumber(head);
+      if (minimize) {
+         minimize();
+      }
+   }
+
+   /**
+    * groups the lines of a word list by the first letter, in either case; lines that do not start with a letter hold
+    * no word and are left out
+    * @param bytes the mapped word list
+    * @return for each letter, the ranges of consecutive lines starting with it, each one {first byte, byte after last}
+    */
+   private static ArrayList<ArrayList<int[]>> firstLetterRanges(final MappedByteBuffer bytes) {
+      final ArrayList<ArrayList<int[]>> ranges = new ArrayList<ArrayList<int[]>>(26);
+      for (int letter = 0; letter < 26; letter++) {
+         ranges.add(new ArrayList<int[]>());
+      }
+      final int end = bytes.limit();
+      int[] run = null;        // range being extended
+      int runLetter = -1;      // first letter of the lines in run
+      int p = 0;
+      while (p < end) {
+         final int lineStart = p;
+         while (p < end && bytes.get(p) != '\n' && bytes.get(p) != '\r') {
+            p++;
+         }
+         if (p > lineStart) {
+            final int letter = index((char) (bytes.get(lineStart) & 0xFF));
+            if (letter != -1 && letter == runLetter) {
+               run[1] = p;
+            } else if (letter != -1) {
+               run = new int[] {lineStart, p};
+               runLetter = letter;
+               ranges.get(letter).add(run);
+            }
+         }
+         p++;   // past the line break
+      }
+      return ranges;
+   }
+
+   /**
+    * inserts the words on the lines of a range of a word list under a node
+    * @param bytes the mapped word list
+    * @param from first byte of the range, the start of a line
+    * @param to byte after the range, the end of a line or of the list
+    * @param root node for the first skip letters of every line in the range
+    * @param skip number of letters root already stands for
+    * @param dice filter that drops every word no roll of its dice could spell, or null to keep every word
+    * @param numbered true to give new nodes handles from the nodes table, false to leave them for renumber
+    */
+   private void load(final MappedByteBuffer bytes, final int from, final int to, final Node root, final int skip,
+                     final DiceFilter dice, final boolean numbered) {
+      final char[] word = new char[maxLength];          // letters of the current line, in lower case
+      final CharBuffer view = CharBuffer.wrap(word);    // word as a CharSequence for the dice filter
+      int length = 0;             // characters on the current line so far
+      boolean letters = true;     // false once the current line holds anything other than a letter
+      for (int p = from; p <= to; p++) {
+         final byte b = p < to ? bytes.get(p) : (byte) '\n';   // the last line may have no line break
+         if (b == '\n' || b == '\r') {
+            // only stores words of MIN_LENGTH to maxLength letters, words with anything other than letters cannot
+            // be spelled on the board, and skips words that no board rolled from the dice could hold
+            if (letters && length >= MIN_LENGTH && length <= maxLength
+                  && (dice == null || dice.canSpell(view.clear().limit(length)))) {
+               trieBuilder(root, word, skip, length, numbered);
+            }
+            length = 0;
+            letters = true;
             continue;
          }
-         // if word is within previous length bounds, add it to the trie
-         trieBuilder(word, head);
-         word = bfr.readLine();
+         final int letter = index((char) (b & 0xFF));
+         if (letter == -1) {
+            letters = false;
+         } else if (length < maxLength) {
+            word[length] = (char) ('a' + letter);
+         }
+         length++;
       }
    }
 
    /**
-    * inserts a new string into the trie
-    * @param toAdd String to be inserted into the Trie
-    * @param parentNode Node currently being appended to
-    * */
-   private void trieBuilder(final String toAdd, final Node parentNode) {
-      // base case of toAdd being 0 characters long
-      if (toAdd.length() == 0) {
-         parentNode.setIsWord(true);   // marks end of word
+    * constructor for an empty trie, filled by a factory method
+    */
+   private Trie() {
+      maxLength = LONGEST_WORD;
+      head = newNode(); // head holds no letter
+   }
+
+   /**
+    * longest word worth keeping for boards of a size: the 4x4 default, or every word that can score on larger boards,
+    * where long words are where most of the points are
+    * @param rows number of rows of the boards to be played
+    * @param cols number of columns of the boards to be played
+    * @return DEFAULT_MAX_LENGTH for boards of up to 16 cells, LONGEST_WORD otherwise
+    */
+   public static int maxLengthFor(final int rows, final int cols) {
+      return rows * cols <= 16 ? DEFAULT_MAX_LENGTH : LONGEST_WORD;
+   }
+
+   /**
+    * checks a length cap given to a constructor
+    * @param longest longest word to keep
+    * @return longest, if it is MIN_LENGTH to LONGEST_WORD
+    */
+   private static int checkLength(final int longest) {
+      if (longest < MIN_LENGTH || longest > LONGEST_WORD) {
+         throw new IllegalArgumentException("longest word must be " + MIN_LENGTH + " to " + LONGEST_WORD + " letters, got " + longest);
+      }
+      return longest;
+   }
+
+   /**
+    * builds the trie of every prefix of the words of a dictionary, each one spelled backwards, minimized. A search
+    * that starts on any letter of a word can walk it toward the word's first letter, and a node is a word when its
+    * letters, read backwards, start a word of the dictionary
+    * @param forward dictionary whose prefixes to reverse
+    * @return minimized Trie of the reversed prefixes
+    */
+   static Trie reversedPrefixes(final Lexicon forward) {
+      final Trie t = new Trie();
+      t.addReversedPrefixes(forward, forward.root(), new char[LONGEST_WORD], new char[LONGEST_WORD], 0);
+      t.minimize();
+      return t;
+   }
+
+   /**
+    * inserts, backwards, every prefix that extends the letters leading to a node of another dictionary
+    * @param forward dictionary whose prefixes to reverse
+    * @param node handle in forward of the letters of prefix
+    * @param prefix letters leading to node, forwards
+    * @param reversed scratch for the reversed prefix
+    * @param length number of letters in prefix
+    */
+   private void addReversedPrefixes(final Lexicon forward, final int node, char[] prefix, char[] reversed,
+                                    final int length) {
+      // a dictionary that keeps longer words than this trie's own loader grows the buffers
+      if (length == prefix.length) {
+         prefix = Arrays.copyOf(prefix, length * 2);
+         reversed = new char[length * 2];
+      }
+      for (int letter = 0; letter < 26; letter++) {
+         final int c = forward.child(node, (char) ('a' + letter));
+         if (c == -1) {
+            continue;
+         }
+         prefix[length] = (char) ('a' + letter);
+         for (int i = 0; i <= length; i++) {
+            reversed[i] = prefix[length - i];
+         }
+         trieBuilder(head, reversed, 0, length + 1, true);
+         addReversedPrefixes(forward, c, prefix, reversed, length + 1);
+      }
+   }
+
+   /**
+    * creates a Node with the next free id and records it in the nodes table
+    * @return the new Node
+    */
+   private Node newNode() {
+      if (size == nodes.length) {
+         nodes = Arrays.copyOf(nodes, size * 2);
+      }
+      final Node n = new Node(size);
+      nodes[size++] = n;
+      return n;
+   }
+
+   /**
+    * turns the trie into a directed acyclic word graph by sharing every subtree that is identical to one already seen,
+    * then renumbers the surviving nodes so that the nodes table only holds reachable nodes
+    */
+   private void minimize() {
+      head = canonical(head, new HashMap<Signature, Node>());
+      nodes = new Node[16];
+      size = 0;
+      renumber(head);
+   }
+
+   /**
+    * minimizes the subtree under n bottom up
+    * @param n Node to minimize
+    * @param registry every distinct node kept so far, keyed by signature
+    * @return the node equal to n that is kept in the graph, n itself if it is the first of its kind
+    */
+   private Node canonical(final Node n, final HashMap<Signature, Node> registry) {
+      for (int i = 0; i < n.children.length; i++) {
+         n.children[i] = canonical(n.children[i], registry);
+      }
+      final Node kept = registry.putIfAbsent(new Signature(n), n);
+      return kept == null ? n : kept;
+   }
+
+   /**
+    * assigns fresh ids to every node reachable from n in preorder, visiting shared nodes only once
+    * @param n Node to number
+    */
+   private void renumber(final Node n) {
+      // a node keeps its old id until it is renumbered, so it was already visited only if the new table points back to
+      // it; UNNUMBERED is never below size
+      if (n.id < size && nodes[n.id] == n) {
          return;
       }
-      Node child = new Node(toAdd.substring(0,1)); // creates a new Node containing first character of toAdd
+      if (size == nodes.length) {
+         nodes = Arrays.copyOf(nodes, size * 2);
+      }
+      n.id = size;
+      nodes[size++] = n;
+      for (final Node c : n.children) {
+         renumber(c);
+      }
+   }
 
-      // determines if parentNode already has Node with that character, if so, refrains from appending it
-      final int ind = parentNode.children.indexOf(child);
-      if (ind == -1) {
-         parentNode.addChild(child);
-      } else {
-         child = parentNode.children.get(ind);
+   /**
+    * maps a letter of either case to its child slot
+    * @param ch letter to map
+    * @return 0 for 'a' or 'A' through 25 for 'z' or 'Z', -1 if ch is not a letter
+    */
+   static int index(final char ch) {
+      final int i = (ch | 0x20) - 'a';   // setting bit 5 folds upper case ASCII letters onto lower case
+      if (i < 0 || i >= 26) {
+         return -1;
       }
-      trieBuilder(toAdd.substring(1), child);   // recursive call with first character of toAdd removed and child passed as parentNode
+      return i;
    }
 
    /**
-    * method to return the list of children in the trie for the last character in key
-    * @param key String to find children of
+    * inserts a new word into the trie
+    * @param root node to insert under, head or the node for the first from letters of toAdd
+    * @param toAdd letters to be inserted into the Trie, all of them lower case letters
+    * @param from number of letters of toAdd that root already stands for
+    * @param length number of letters of toAdd to insert
+    * @param numbered true to give new nodes handles from the nodes table, false to leave them for renumber
     * */
-   public ArrayList<String> getChildren(final String key) {
-      return childRecur(key, head);
+   private void trieBuilder(final Node root, final char[] toAdd, final int from, final int length,
+                            final boolean numbered) {
+      Node curr = root;
+      for (int i = from; i < length; i++) {
+         // every node on the way gains the letters of toAdd left after it as a candidate for its height
+         curr.height = Math.max(curr.height, length - i);
+         final int letter = toAdd[i] - 'a';
+         Node child = curr.getChild(letter);
+         // only appends a new Node if curr does not already have one for that character
+         if (child == null) {
+            child = numbered ? newNode() : new Node(UNNUMBERED);
+            curr.addChild(letter, child);
+         }
+         curr = child;
+      }
+      curr.setIsWord(true);   // marks end of word
+   }
+
+   /**
+    * follows key through the trie one letter at a time
+    * @param key String to walk
+    * @return Node reached after the last character of key, or null if key leaves the trie
+    */
+   private Node walk(final String key) {
+      Node curr = head;
+      for (int i = 0; i < key.length() && curr != null; i++) {
+         final int letter = index(key.charAt(i));
+         if (letter == -1) {
+            return null;
+         }
+         curr = curr.getChild(letter);
+      }
+      return curr;
    }
 
    /**
-    * method to find the list of children of the last character in String key in the trie
-    * @param key String to find the children of the last character of
-    * @param curr Node to check the children of
+    * method to return the list of children in the trie for the last character in key
+    * @param key String to find children of
     * */
-   private ArrayList<String> childRecur(final String key, final Node curr) {
-      // base case of key being 1 character long
-      if (key.length() == 1) {
-         return curr.getChildren(); // returns number of children key has
-      }
-      // determines if next character of key exists in curr's children list, returns empty list if not
-      final int ind = curr.children.indexOf(new Node(key.substring(0,1)));
-      if (ind == -1) {
+   public ArrayList<String> getChildren(final String key) {
+      final Node last = walk(key);
+      // returns empty list if key is not in the trie
+      if (last == null) {
          return new ArrayList<String>();
       }
-      // recursive call, with first character of key removed and curr's child passed as curr
-      return childRecur(key.substring(1), curr.children.get(ind));
+      return last.getChildren();
    }
 
    /**
     * used for determining if a string exists as a word in the Trie
-    * @param query String to search for
+    * @param query String to search for, in either case
     * @return 2 element array of ints, first element is 1 or 0 if query exists or doesn't exist respectively, second element is # of children
     * the last node searched has
     */
    public int[] search(final String query) {
-      return searchRecur(query.toLowerCase(), head);
+      final Node last = walk(query);
+      // if query leaves the trie, returns {0, 0}
+      if (last == null) {
+         return new int[] {0, 0};
+      }
+      // isWord determines if first element is 1 or 0
+      return new int[] {last.isWord() ? 1 : 0, last.childCount()};
    }
 
    /**
-    * method that recursively traverses trie to determine if String q exists in it
-    * @param q String being checked in the trie
-    * @param c node to check the children of
-    * @return 2 element array of ints, first element is 1 or 0 if query exists or doesn't exist respectively, second element is # of children
-    * the last node searched has
-    * */
-   private int[] searchRecur(final String q, Node c) {
-      // base case of q being length 0
-      if (q.length() == 0) {
-         // isWord determines if first element is 1 or 0
-         if (c.isWord()) {
-            return new int[] {1, c.getChildren().size()};
-         }
-         return new int[] {0, c.getChildren().size()};
-      }
-      // determines if next character of q exists in c's children list, if not, returns {0, 0}
-      final int ind = c.children.indexOf(new Node(q.substring(0,1)));
-      if (ind != -1) {
-         return searchRecur(q.substring(1), c.children.get(ind)); // recursive call with first character of q removed and c's child passed as c
+    * cursor handle of the head of the trie, the empty prefix
+    * @return int handle of head
+    */
+   public int root() {
+      return head.id;
+   }
+
+   /**
+    * moves a cursor one letter down the trie, allocates nothing
+    * @param node handle of the current node
+    * @param letter next letter, in either case
+    * @return handle of the child for letter, or -1 if no word continues with it
+    */
+   public int child(final int node, final char letter) {
+      final int l = index(letter);
+      if (l == -1) {
+         return -1;
       }
-      return new int[] {0, 0};
+      final Node c = nodes[node].getChild(l);
+      return c == null ? -1 : c.id;
+   }
+
+   /**
+    * determines if the letters leading to a node form a word
+    * @param node handle of the node
+    * @return true if node marks the end of a word
+    */
+   public boolean isWord(final int node) {
+      return nodes[node].isWord();
+   }
+
+   /**
+    * determines if any word continues past a node
+    * @param node handle of the node
+    * @return true if node has at least one child
+    */
+   public boolean hasChildren(final int node) {
+      return nodes[node].childCount() > 0;
+   }
+
+   /**
+    * upper bound on the letters that can still be added to a node's prefix, exact for a Trie
+    * @param node handle of the node
+    * @return number of letters in the longest word below node minus the letters leading to node
+    */
+   public int maxLength(final int node) {
+      return nodes[node].height;
+   }
+
+   /**
+    * accessor method for the number of nodes, including head
+    * @return int number of nodes
+    */
+   public int size() {
+      return size;
    }
 
    /**
     * method used to print all the children of head
     */
    public void printChildren() {
-      for (Node n : head.children) {
-         System.out.print(n.getData());
+      for (final String c : head.getChildren()) {
+         System.out.print(c);
       }
       System.out.println();
    }
@@ -223,8 +664,11 @@ public class Trie {
     * @throws IOException
     */
    public static void main(final String[] args) throws IOException {
-      final Trie test = new Trie(args[0]);
-      System.out.println("done building");
+      final List<String> flags = Arrays.asList(args).subList(1, args.length);
+      final Trie test = flags.contains("-parallel")
+            ? new Trie(args[0], flags.contains("-dawg"), null, ForkJoinPool.commonPool())
+            : new Trie(args[0], flags.contains("-dawg"));
+      System.out.println("done building, " + test.size() + " nodes");
       test.printChildren();
       System.out.println(test.search("apple"));
    }
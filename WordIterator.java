@@ -0,0 +1,133 @@
+/*
+Authors (group members): Alex Thomas, T'Avion Rodgers, Anthony Ciero, Jaylin Ollivierre
+Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.edu, aciero2022@my.fit.edu jollivierre2022@my.fit.edu
+Group name: C.A.M.E.R.O.N.
+Course: cse2010
+Section: 12
+Description: every word on a board, found lazily. The depth first search of WordSearch is unrolled onto explicit stacks
+             of cells, trie cursors and untried neighbor masks, so the search can stop after any word and resume on the
+             next call to next. Nothing is searched before a word is asked for and nothing past the last word taken,
+             so a caller that only wants a few words pays only for those. Each word is returned once, on the first
+             path found for it
+*/
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+class WordIterator implements Iterator<Word> {
+   private final Lexicon dictionary;
+   private final BoardShape shape;
+   private final int cols;
+   private final char[] tiles;                             // letter on each cell
+   private final int[] cells;                              // cell at each depth of the current path
+   private final int[] nodes;                              // trie cursor after each depth
+   private final int[] lengths;                            // letters on the path after each depth
+   private final long[] visited;                           // cells on the path after each depth
+   private final long[] untried;                           // neighbors of each depth's cell still to try
+   private final char[] letters;                           // letters of the current path, two for each Q
+   private final HashSet<String> returned = new HashSet<String>();   // words already returned
+   private int depth = 0;                                  // number of cells on the current path
+   private int nextStart = 0;                              // start cell to try once the path is empty
+   private Word next = null;                               // word found but not yet returned
+
+   /**
+    * constructor for an iterator over the words of a board, searches nothing yet
+    * @param d dictionary to search with
+    * @param board 2d array representing the boggle board, any rectangle of up to BoardShape.MAX_CELLS cells
+    */
+   WordIterator(final Lexicon d, final char[][] board) {
+      dictionary = d;
+      shape = BoardShape.of(board);
+      cols = shape.cols();
+      final int n = shape.cells();
+      tiles = new char[n];
+      for (int r = 0; r < board.length; r++) {
+         for (int c = 0; c < cols; c++) {
+            tiles[r * cols + c] = board[r][c];
+         }
+      }
+      cells = new int[n];
+      nodes = new int[n];
+      lengths = new int[n];
+      visited = new long[n];
+      untried = new long[n];
+      letters = new char[2 * n];
+   }
+
+   /**
+    * determines if the board holds another word, searching until one is found or the board is exhausted
+    * @return true if next will return a word
+    */
+   @Override
+   public boolean hasNext() {
+      while (next == null) {
+         if (depth == 0) {
+            if (nextStart == shape.cells()) {
+               return false;
+            }
+            push(nextStart++);
+         } else {
+            final long m = untried[depth - 1];
+            if (m == 0) {
+               depth--;   // every neighbor of the last cell was tried, backtracks
+            } else {
+               untried[depth - 1] = m & (m - 1);
+               push(Long.numberOfTrailingZeros(m));
+            }
+         }
+      }
+      return true;
+   }
+
+   /**
+    * returns the next word, in the order of the depth first search
+    * @return Word with its letters and its path on the board
+    */
+   @Override
+   public Word next() {
+      if (!hasNext()) {
+         throw new NoSuchElementException();
+      }
+      final Word w = next;
+      next = null;
+      return w;
+   }
+
+   /**
+    * adds a cell to the current path if any word continues with its letters, and takes the path as the next word if it
+    * spells one that was not returned yet
+    * @param cell cell to add
+    */
+   private void push(final int cell) {
+      final char tile = tiles[cell];
+      final int node = dictionary.tile(depth == 0 ? dictionary.root() : nodes[depth - 1], tile);
+      if (node == -1) {
+         return;
+      }
+      int length = depth == 0 ? 0 : lengths[depth - 1];
+      letters[length++] = tile;
+      if (tile == 'Q' || tile == 'q') {
+         letters[length++] = tile == 'Q' ? 'U' : 'u';
+      }
+      final long onPath = (depth == 0 ? 0L : visited[depth - 1]) | (1L << cell);
+      cells[depth] = cell;
+      nodes[depth] = node;
+      lengths[depth] = length;
+      visited[depth] = onPath;
+      untried[depth] = dictionary.hasChildren(node) ? shape.neighbors(cell) & ~onPath : 0L;
+      depth++;
+      if (dictionary.isWord(node)) {
+         final String text = new String(letters, 0, length);
+         if (returned.add(text)) {
+            final ArrayList<Location> locs = new ArrayList<Location>(depth);
+            for (int i = 0; i < depth; i++) {
+               locs.add(new Location(cells[i] / cols, cells[i] % cols));
+            }
+            next = new Word(text);
+            next.setPath(locs);
+         }
+      }
+   }
+}
@@ -0,0 +1,173 @@
+/*
+Authors (group members): Alex Thomas, T'Avion Rodgers, Anthony Ciero, Jaylin Ollivierre
+Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.edu, aciero2022@my.fit.edu jollivierre2022@my.fit.edu
+Group name: C.A.M.E.R.O.N.
+Course: cse2010
+Section: 12
+Description: the depth first search behind BogglePlayer.getWords, for any rectangular board of up to 64 cells. Cells
+             are numbered row * columns + column, the cells already on the path are kept as bits of a long mask, and
+             the path and its letters live in preallocated stacks, so walking the board allocates nothing. A 'Q' cell
+             spells QU, so a path holds up to two letters per cell. Words are offered to a TopWords collector, which
+             only copies the stacks of a word that scores high enough, and no Word is built until the search is over.
+             A path is abandoned as soon as the longest word the dictionary could still finish, limited by the cells
+             left, would score no more than the lowest word kept. When SearchStats is enabled, every step is counted
+*/
+
+class WordSearch {
+   // switch of SearchStats, kept here so that reading it does not load SearchStats and register its MBean
+   private static volatile boolean countingEnabled = Boolean.getBoolean("boggle.stats");
+
+   private final Lexicon dictionary;
+   private int[] path = new int[16];             // cells of the current path, path[i] is the cell of letter i
+   private char[] letters = new char[32];        // letters of the current path, two for each Q
+   private char[] tiles = new char[16];          // letter on each cell of the board being searched
+   private BoardShape shape;                     // adjacency of the board being searched
+   private int cols;                             // number of columns of the board being searched
+   private int cells;                            // number of cells of the board being searched
+   private int qTiles;                           // number of Q cells, each one adds a letter beyond its cell
+   private TopWords found;                       // highest scoring words so far
+   private boolean counting;                     // true if this search reports to SearchStats
+   private long expanded;                        // counters of the current start cell, see SearchStatsMBean
+   private long hops;
+   private long deadEnds;
+   private long words;
+   private long rejected;
+   private long prunes;
+
+   /**
+    * constructor for a WordSearch that looks words up in dictionary
+    * @param d dictionary to search with
+    */
+   WordSearch(final Lexicon d) {
+      dictionary = d;
+   }
+
+   /**
+    * determines if searches report to SearchStats
+    * @return true if counting is on
+    */
+   static boolean counting() {
+      return countingEnabled;
+   }
+
+   /**
+    * turns reporting to SearchStats on or off, searches already running keep their setting until they finish
+    * @param on true to count searches
+    */
+   static void setCounting(final boolean on) {
+      countingEnabled = on;
+   }
+
+   /**
+    * finds the longest words on a board, starting a path on every cell
+    * @param board 2d array representing the boggle board, any rectangle of up to BoardShape.MAX_CELLS cells
+    * @param results collector for the highest scoring words, able to hold words of two letters per cell
+    */
+   void search(final char[][] board, final TopWords results) {
+      if (countingEnabled) {
+         SearchStats.STATS.boardStarted();
+      }
+      search(board, 0, board.length * board[0].length, results);
+   }
+
+   /**
+    * finds the longest words on a board that start on a range of cells; searches from different start cells share
+    * nothing but the dictionary, so each range can be given to its own WordSearch
+    * @param board 2d array representing the boggle board, any rectangle of up to BoardShape.MAX_CELLS cells
+    * @param from first start cell, row * columns + column
+    * @param to start cell after the last one
+    * @param results collector for the highest scoring words, able to hold words of two letters per cell
+    */
+   void search(final char[][] board, final int from, final int to, final TopWords results) {
+      shape = BoardShape.of(board);   // only the letters are bound per board, the adjacency is shared
+      cols = shape.cols();
+      cells = shape.cells();
+      // grows the stacks once for a larger board, they are then reused by every later search
+      if (tiles.length < cells) {
+         tiles = new char[cells];
+         path = new int[cells];
+         letters = new char[2 * cells];
+      }
+      qTiles = 0;
+      for (int r = 0; r < board.length; r++) {
+         for (int c = 0; c < cols; c++) {
+            tiles[r * cols + c] = board[r][c];
+            if (board[r][c] == 'Q' || board[r][c] == 'q') {
+               qTiles++;
+            }
+         }
+      }
+      found = results;
+      counting = countingEnabled;
+      for (int cell = from; cell < to; cell++) {
+         if (counting) {
+            expanded = hops = deadEnds = words = rejected = prunes = 0;
+            final long start = System.nanoTime();
+            expand(cell, dictionary.root(), 0, 0, 0L);
+            SearchStats.STATS.record(cell, System.nanoTime() - start, expanded, hops, deadEnds, words, rejected, prunes);
+         } else {
+            expand(cell, dictionary.root(), 0, 0, 0L);
+         }
+      }
+      found = null;
+   }
+
+   /**
+    * adds one cell to the current path, records the path if it spells a word, then tries every unvisited neighbor
+    * @param cell cell to add
+    * @param parent trie cursor for the letters of the path so far
+    * @param depth number of cells on the path so far
+    * @param length number of letters on the path so far
+    * @param visited mask of the cells on the path so far, bit i set for cell i
+    */
+   private void expand(final int cell, final int parent, final int depth, int length, final long visited) {
+      final char tile = tiles[cell];
+      final int node = dictionary.tile(parent, tile);   // a Q tile takes the QU edge, two levels in one step
+      if (counting) {
+         hops++;
+         if (node == -1) {
+            deadEnds++;
+         } else {
+            expanded++;
+         }
+      }
+      if (node == -1) {
+         return;
+      }
+      path[depth] = cell;
+      letters[length++] = tile;
+      if (tile == 'Q' || tile == 'q') {
+         letters[length++] = tile == 'Q' ? 'U' : 'u';
+      }
+      if (counting) {
+         // counts every word, so the dictionary is asked even about words the collector would turn away
+         if (dictionary.isWord(node)) {
+            words++;
+            if (!found.offer(letters, length, path, depth + 1)) {
+               rejected++;
+            }
+         }
+      } else if (found.accepts(TopWords.score(length)) && dictionary.isWord(node)) {
+         // a word that cannot beat the lowest kept score is rejected before the dictionary is even asked
+         found.offer(letters, length, path, depth + 1);
+      }
+      // only continues searching if there are more valid words possible down this path
+      // no word below node is longer than its height, nor longer than the letters of the cells still off the path;
+      // the threshold only rises, so a branch that cannot beat it now never could
+      final int longest = length + Math.min(dictionary.maxLength(node), cells - depth - 1 + qTiles);
+      if (!found.accepts(TopWords.score(longest))) {
+         if (counting) {
+            prunes++;
+         }
+         return;
+      }
+      if (dictionary.hasChildren(node)) {
+         final long onPath = visited | (1L << cell);
+         long next = shape.neighbors(cell) & ~onPath;   // unvisited neighbors
+         while (next != 0) {
+            expand(Long.numberOfTrailingZeros(next), node, depth + 1, length, onPath);
+            next &= next - 1;
+         }
+      }
+   }
+}
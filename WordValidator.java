@@ -0,0 +1,146 @@
+/*
+Authors (group members): Alex Thomas, T'Avion Rodgers, Anthony Ciero, Jaylin Ollivierre
+Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.edu, aciero2022@my.fit.edu jollivierre2022@my.fit.edu
+Group name: C.A.M.E.R.O.N.
+Course: cse2010
+Section: 12
+Description: checks and scores words found on a board with the rules of EvalBogglePlayer: the path must be as long as
+             the word less one letter per QU, the word must have 3 to 16 letters, consecutive cells must touch, no cell
+             may be used twice, the path must spell the word and the word must be in the dictionary. The dictionary is
+             loaded once into a hash set, and cells used by a path are bits of a mask, so checking a word allocates
+             nothing and one instance can score any number of boards from any number of threads
+*/
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.HashSet;
+
+public class WordValidator {
+   private final HashSet<String> dictionary = new HashSet<String>();   // every word of the list, upper case
+
+   /**
+    * constructor that loads every word of a list, whatever its length
+    * @param wordFile file name of list of words
+    * @throws IOException if the file cannot be read
+    */
+   public WordValidator(final String wordFile) throws IOException {
+      try (BufferedReader bfr = new BufferedReader(new FileReader(wordFile))) {
+         String line;
+         while ((line = bfr.readLine()) != null) {
+            dictionary.add(line.toUpperCase());
+         }
+      }
+   }
+
+   /**
+    * determines if a word is in the dictionary
+    * @param word word to look up, in either case
+    * @return true if the list holds word
+    */
+   public boolean contains(final String word) {
+      return dictionary.contains(word.toUpperCase());   // returns word itself when it is already upper case
+   }
+
+   /**
+    * calculates the points for the words found on a board. Only the first 20 words count, each further word costs a
+    * point, a repeated word costs its value, a null word costs a point and the total is never negative
+    * @param words the list of words whose points are to be calculated
+    * @param board the board on which the words were found
+    * @return total points
+    */
+   public int calculatePoints(final Word[] words, final char[][] board) {
+      int points = 0;
+      if (words == null) {
+         System.out.println("Your word list is null");
+         return 0;
+      }
+      int wordListLen = words.length;
+      if (wordListLen > 20) {
+         points -= wordListLen - 20;   // penalty if more than 20 words were returned
+         wordListLen = 20;             // only the first 20 are counted
+      }
+
+      for (int index = 0; index < wordListLen; index++) {
+         final Word w = words[index];
+         if (w == null) {
+            points--;
+            continue;
+         }
+         // checks if the word is unique among the counted words before it
+         boolean duplicate = false;
+         for (int i = 0; i < index; i++) {
+            if (words[i] != null && w.getWord().equals(words[i].getWord())) {
+               duplicate = true;
+               break;
+            }
+         }
+         if (duplicate) {
+            points -= (w.getPathLength() - 2) * (w.getPathLength() - 2);
+         } else {
+            points += checkForWordValidity(w, board);
+         }
+      }
+      return Math.max(points, 0);
+   }
+
+   /**
+    * checks if a word is valid on a board
+    * @param word the word that is to be evaluated
+    * @param board the board on which the word was found
+    * @return (length - 2)^2 for a valid word, -1 for a word shorter than 3 letters, and -(length - 2)^2 otherwise
+    */
+   public int checkForWordValidity(final Word word, final char[][] board) {
+      final String text = word.getWord();
+      final int length = text.length();
+      final int penalty = -((length - 2) * (length - 2));
+
+      // path length is the same as word length, less one for each Q, which stands for QU
+      int numberOfQs = 0;
+      for (int i = 0; i < length; i++) {
+         if (text.charAt(i) == 'Q') {
+            numberOfQs++;
+         }
+      }
+      if (length != word.getPathLength() + numberOfQs) {
+         return penalty;
+      }
+      // word has at least 3 letters and at most 16 characters
+      if (length < 3) {
+         return -1;
+      }
+      if (length > 16) {
+         return penalty;
+      }
+      // consecutive letters are adjacent on the board
+      for (int i = 1; i < word.getPathLength(); i++) {
+         final Location a = word.getLetterLocation(i - 1);
+         final Location b = word.getLetterLocation(i);
+         if ((a.row - b.row) * (a.row - b.row) + (a.col - b.col) * (a.col - b.col) > 2) {
+            return penalty;
+         }
+      }
+      // each cell is used at most once, and the letters on the path spell the word
+      final int cols = board[0].length;
+      long used = 0L;
+      for (int i = 0, letterIndex = 0; i < word.getPathLength(); i++, letterIndex++) {
+         final int row = word.getLetterRow(i);
+         final int col = word.getLetterCol(i);
+         if (row < 0 || row >= board.length || col < 0 || col >= cols) {
+            return penalty;
+         }
+         final long cell = 1L << (row * cols + col);
+         if ((used & cell) != 0 || board[row][col] != text.charAt(letterIndex)) {
+            return penalty;
+         }
+         used |= cell;
+         if (text.charAt(letterIndex) == 'Q') {
+            letterIndex++;
+         }
+      }
+      if (!contains(text)) {
+         return penalty;
+      }
+      return (length - 2) * (length - 2);
+   }
+}
@@ -0,0 +1,52 @@
+/*
+Authors (group members): Alex Thomas, T'Avion Rodgers, Anthony Ciero, Jaylin Ollivierre
+Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.edu, aciero2022@my.fit.edu jollivierre2022@my.fit.edu
+Group name: C.A.M.E.R.O.N.
+Course: cse2010
+Section: 12
+Description: default package side of the benchmark bridge, see jmh.Harness. Boards are rolled by
+             EvalBogglePlayer.generateBoard, one seed per board, so they are the boards the evaluator plays
+*/
+
+import java.util.Random;
+
+public class BoggleHarness implements jmh.Harness {
+   private String wordFile;
+   private Trie dictionary;
+   private BogglePlayer player;
+   private char[][][] boards;
+
+   public void setup(final String file, final int count, final long seed) throws Exception {
+      wordFile = file;
+      dictionary = new Trie(file);
+      player = new BogglePlayer(dictionary);
+      boards = new char[count][][];
+      for (int i = 0; i < count; i++) {
+         boards[i] = EvalBogglePlayer.generateBoard(new Random(seed + i));
+      }
+   }
+
+   public Object buildTrie() throws Exception {
+      return new Trie(wordFile);
+   }
+
+   public Object search(final String query) {
+      return dictionary.search(query);
+   }
+
+   public Object getChildren(final String key) {
+      return dictionary.getChildren(key);
+   }
+
+   public Object buildGraph(final int board) {
+      return new boardGraph(boards[board]);
+   }
+
+   public Object getWords(final int board) {
+      return player.getWords(boards[board]);
+   }
+
+   public int boards() {
+      return boards.length;
+   }
+}
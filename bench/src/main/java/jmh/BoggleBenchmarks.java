@@ -0,0 +1,106 @@
+/*
+Authors (group members): Alex Thomas, T'Avion Rodgers, Anthony Ciero, Jaylin Ollivierre
+Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.edu, aciero2022@my.fit.edu jollivierre2022@my.fit.edu
+Group name: C.A.M.E.R.O.N.
+Course: cse2010
+Section: 12
+Description: JMH benchmarks for dictionary construction, dictionary lookups, board graph construction and getWords over
+             a fixed corpus of seeded boards. Every benchmark reports throughput and average time, and RunBenchmarks adds
+             the GC profiler for allocation rates
+*/
+
+package jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BoggleBenchmarks {
+   @Param("../words.txt")
+   public String wordFile;
+
+   @Param("256")
+   public int boards;
+
+   @Param("123456789")
+   public long seed;
+
+   private Harness harness;
+
+   // per thread position in the board corpus, so every invocation solves the next board
+   @State(Scope.Thread)
+   public static class Cursor {
+      private int next = 0;
+
+      /**
+       * advances to the next board, wrapping around the corpus
+       * @param count number of boards in the corpus
+       * @return index of the board to use
+       */
+      int next(final int count) {
+         final int board = next;
+         next = next + 1 == count ? 0 : next + 1;
+         return board;
+      }
+   }
+
+   @Setup(Level.Trial)
+   public void setup() throws Exception {
+      harness = (Harness) Class.forName("BoggleHarness").getDeclaredConstructor().newInstance();
+      harness.setup(wordFile, boards, seed);
+   }
+
+   @Benchmark
+   @OutputTimeUnit(TimeUnit.MILLISECONDS)
+   @Warmup(iterations = 3, time = 2)
+   @Measurement(iterations = 5, time = 2)
+   public Object trieBuild() throws Exception {
+      return harness.buildTrie();
+   }
+
+   @Benchmark
+   public Object searchHit() {
+      return harness.search("quarterly");
+   }
+
+   @Benchmark
+   public Object searchMiss() {
+      return harness.search("quartzxq");
+   }
+
+   @Benchmark
+   public Object searchPrefixOnly() {
+      return harness.search("quarte");
+   }
+
+   @Benchmark
+   public Object getChildren() {
+      return harness.getChildren("st");
+   }
+
+   @Benchmark
+   public Object boardGraphBuild(final Cursor cursor) {
+      return harness.buildGraph(cursor.next(harness.boards()));
+   }
+
+   @Benchmark
+   public Object getWords(final Cursor cursor) {
+      return harness.getWords(cursor.next(harness.boards()));
+   }
+}
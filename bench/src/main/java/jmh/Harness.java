@@ -0,0 +1,64 @@
+/*
+Authors (group members): Alex Thomas, T'Avion Rodgers, Anthony Ciero, Jaylin Ollivierre
+Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.edu, aciero2022@my.fit.edu jollivierre2022@my.fit.edu
+Group name: C.A.M.E.R.O.N.
+Course: cse2010
+Section: 12
+Description: calls into the player for the benchmarks. JMH refuses benchmarks in the default package, and classes in a
+             named package cannot name default package classes, so BoggleHarness implements this interface from the
+             default package and the benchmarks load it by name
+*/
+
+package jmh;
+
+public interface Harness {
+   /**
+    * loads the player's dictionary and seeded boards; called once before a benchmark's iterations
+    * @param wordFile file name of list of words
+    * @param boards number of boards to generate
+    * @param seed seed of the first board, board i uses seed + i
+    * @throws Exception if the word list cannot be read
+    */
+   void setup(String wordFile, int boards, long seed) throws Exception;
+
+   /**
+    * builds a Trie from the word list
+    * @return the Trie, for the benchmark to consume
+    * @throws Exception if the word list cannot be read
+    */
+   Object buildTrie() throws Exception;
+
+   /**
+    * searches the prepared Trie
+    * @param query String to search for
+    * @return search result, for the benchmark to consume
+    */
+   Object search(String query);
+
+   /**
+    * lists the children of a prefix in the prepared Trie
+    * @param key prefix to find children of
+    * @return children, for the benchmark to consume
+    */
+   Object getChildren(String key);
+
+   /**
+    * builds a boardGraph for one of the prepared boards
+    * @param board index of the board
+    * @return the graph, for the benchmark to consume
+    */
+   Object buildGraph(int board);
+
+   /**
+    * solves one of the prepared boards with a player sharing the prepared Trie
+    * @param board index of the board
+    * @return the words found, for the benchmark to consume
+    */
+   Object getWords(int board);
+
+   /**
+    * accessor method for the number of prepared boards
+    * @return int number of boards
+    */
+   int boards();
+}
@@ -0,0 +1,37 @@
+/*
+Authors (group members): Alex Thomas, T'Avion Rodgers, Anthony Ciero, Jaylin Ollivierre
+Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.edu, aciero2022@my.fit.edu jollivierre2022@my.fit.edu
+Group name: C.A.M.E.R.O.N.
+Course: cse2010
+Section: 12
+Description: entry point of benchmarks.jar. Hands the usual JMH command line to JMH's own Main, so -h, -l and the other
+             options behave as documented, and adds the GC profiler unless one was asked for, so every run reports
+             allocation rate next to throughput and average time
+*/
+
+package jmh;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class RunBenchmarks {
+   /**
+    * runs the benchmarks selected on the command line
+    * @param args JMH command line, for example "getWords -f 1" or "-h" for help
+    * @throws Exception if JMH cannot parse the command line or a benchmark fails
+    */
+   public static void main(final String[] args) throws Exception {
+      final ArrayList<String> line = new ArrayList<String>(Arrays.asList(args));
+      boolean gc = false;
+      for (int i = 0; i + 1 < line.size(); i++) {
+         if (line.get(i).equals("-prof") && line.get(i + 1).startsWith("gc")) {
+            gc = true;
+         }
+      }
+      if (!gc) {
+         line.add(0, "-prof");
+         line.add(1, "gc");
+      }
+      org.openjdk.jmh.Main.main(line.toArray(new String[0]));
+   }
+}
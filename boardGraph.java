@@ -4,7 +4,8 @@ Email addresses of group members: thomasa2022@my.fit.edu, rodgerst2021@my.fit.ed
 Group name: C.A.M.E.R.O.N.
 Course: cse2010
 Section: 12
-Description: holds an adjacency list of all the elements in a 2d array, allows for quick access to all adjacent cells
+Description: holds an adjacency list of all the elements in a rectangular 2d array of any size, allows for quick access
+             to all adjacent cells
 */
 
 import java.util.LinkedList;
@@ -73,11 +74,17 @@ class Vertex {
 // Adjacency List Implementation of Graph
 public class boardGraph {
 	// Map to store all vertices
-	private Vertex[] vertices = new Vertex[16];
+	private Vertex[] vertices;
+	// Board dimensions
+	private int rows;
+	private int cols;
 	// Keep track of list size
 	private int size = 0;
 	// Sets board and creates adjacency list out of it
 	public boardGraph (char[][] boardMatrix) {
+		rows = boardMatrix.length;
+		cols = boardMatrix[0].length;
+		vertices = new Vertex[rows * cols];
 		for (int i = 0; i < boardMatrix.length; i++) {
 			for (int j = 0; j < boardMatrix[0].length; j++) {
 				char curr = boardMatrix[i][j];
@@ -110,7 +117,7 @@ public class boardGraph {
 	// Method to print graph -- DEBUGGING
 	public void printGraph() {
 		for (int i = 0; i < vertices.length; i++) {
-			if (i % 4 == 0) {
+			if (i % rows == 0) {
 				System.out.println();
 			}
 			Vertex temp = vertices[i];
@@ -189,10 +196,10 @@ public class boardGraph {
 	// x-y mapping function to convert coordinate pair to single int
 	private int mapCoords (int x, int y) {
 		// Performs boundchecking to ensure only values within the board are dealt with
-		if (x < 0 || y < 0 || x > 3 || y > 3) {
+		if (x < 0 || y < 0 || x >= rows || y >= cols) {
 			return -1;
 		}
-		return y * 4 + x;
+		return y * rows + x;
 	}
 
 	// Tell whether a vertex exists in the graph. If so, return it